@@ -20,10 +20,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.job_platform.Entity.Interview;
+import com.example.job_platform.Enum.InterviewStatus;
+import com.example.job_platform.Enum.InterviewType;
 import com.example.job_platform.Service.InterviewSchedulingService;
-import com.example.job_platform.Service.InterviewSchedulingService.Interview;
-import com.example.job_platform.Service.InterviewSchedulingService.InterviewStatus;
-import com.example.job_platform.Service.InterviewSchedulingService.InterviewType;
+import com.example.job_platform.Service.InterviewSchedulingService.BulkScheduleReport;
+import com.example.job_platform.Service.InterviewSchedulingService.InterviewerAvailability;
+import com.example.job_platform.Service.InterviewSchedulingService.TimeSlot;
 import com.example.job_platform.Service.LoggingService;
 
 @RestController
@@ -180,6 +183,132 @@ public class InterviewController {
         }
     }
 
+    public static class PanelSlotRequest {
+
+        private List<String> interviewerEmails;
+        private List<TimeSlot> candidateBlockedTimes;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private int durationMinutes = 60;
+        private int maxSlots = 10;
+
+        // Default constructor
+        public PanelSlotRequest() {
+        }
+
+        // Getters and setters
+        public List<String> getInterviewerEmails() {
+            return interviewerEmails;
+        }
+
+        public void setInterviewerEmails(List<String> interviewerEmails) {
+            this.interviewerEmails = interviewerEmails;
+        }
+
+        public List<TimeSlot> getCandidateBlockedTimes() {
+            return candidateBlockedTimes;
+        }
+
+        public void setCandidateBlockedTimes(List<TimeSlot> candidateBlockedTimes) {
+            this.candidateBlockedTimes = candidateBlockedTimes;
+        }
+
+        public LocalDateTime getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(LocalDateTime startDate) {
+            this.startDate = startDate;
+        }
+
+        public LocalDateTime getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(LocalDateTime endDate) {
+            this.endDate = endDate;
+        }
+
+        public int getDurationMinutes() {
+            return durationMinutes;
+        }
+
+        public void setDurationMinutes(int durationMinutes) {
+            this.durationMinutes = durationMinutes;
+        }
+
+        public int getMaxSlots() {
+            return maxSlots;
+        }
+
+        public void setMaxSlots(int maxSlots) {
+            this.maxSlots = maxSlots;
+        }
+    }
+
+    public static class BulkScheduleRequest {
+
+        private List<Long> applicationIds;
+        private List<InterviewerAvailability> interviewers;
+        private InterviewType type;
+        private int durationMinutes = 60;
+        private String location;
+        private String meetingLink;
+
+        // Default constructor
+        public BulkScheduleRequest() {
+        }
+
+        // Getters and setters
+        public List<Long> getApplicationIds() {
+            return applicationIds;
+        }
+
+        public void setApplicationIds(List<Long> applicationIds) {
+            this.applicationIds = applicationIds;
+        }
+
+        public List<InterviewerAvailability> getInterviewers() {
+            return interviewers;
+        }
+
+        public void setInterviewers(List<InterviewerAvailability> interviewers) {
+            this.interviewers = interviewers;
+        }
+
+        public InterviewType getType() {
+            return type;
+        }
+
+        public void setType(InterviewType type) {
+            this.type = type;
+        }
+
+        public int getDurationMinutes() {
+            return durationMinutes;
+        }
+
+        public void setDurationMinutes(int durationMinutes) {
+            this.durationMinutes = durationMinutes;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public String getMeetingLink() {
+            return meetingLink;
+        }
+
+        public void setMeetingLink(String meetingLink) {
+            this.meetingLink = meetingLink;
+        }
+    }
+
     @PostMapping("/schedule")
     @PreAuthorize("hasRole('ADMIN') or hasRole('RECRUITER')")
     public ResponseEntity<Map<String, Object>> scheduleInterview(@RequestBody ScheduleInterviewRequest request) {
@@ -217,6 +346,52 @@ public class InterviewController {
         }
     }
 
+    @PostMapping("/bulk-schedule")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('RECRUITER')")
+    public ResponseEntity<Map<String, Object>> bulkScheduleInterviews(@RequestBody BulkScheduleRequest request) {
+        try {
+            if (request.getApplicationIds() == null || request.getApplicationIds().isEmpty()
+                    || request.getInterviewers() == null || request.getInterviewers().isEmpty()
+                    || request.getType() == null) {
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("success", false);
+                errorResponse.put("message", "Application IDs, interviewers and interview type are required");
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+
+            BulkScheduleReport report = interviewSchedulingService.bulkScheduleInterviews(
+                    request.getApplicationIds(),
+                    request.getInterviewers(),
+                    request.getType(),
+                    request.getDurationMinutes(),
+                    request.getLocation(),
+                    request.getMeetingLink()
+            );
+
+            loggingService.logUserAction("API_USER", "INTERVIEWS_BULK_SCHEDULED",
+                    String.format("Bulk scheduled %d of %d applications", report.getScheduled().size(),
+                            request.getApplicationIds().size()));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("scheduledCount", report.getScheduled().size());
+            response.put("scheduled", report.getScheduled().stream()
+                    .map(this::createInterviewResponse)
+                    .collect(java.util.stream.Collectors.toList()));
+            response.put("unplaced", report.getUnplaced());
+            response.put("interviewerLoad", report.getInterviewerLoad());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            loggingService.error("Failed to bulk schedule interviews via API", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "Failed to bulk schedule interviews: " + e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     @PutMapping("/{interviewId}/reschedule")
     @PreAuthorize("hasRole('ADMIN') or hasRole('RECRUITER')")
     public ResponseEntity<Map<String, Object>> rescheduleInterview(@PathVariable Long interviewId,
@@ -390,6 +565,28 @@ public class InterviewController {
         }
     }
 
+    @PostMapping("/panel-slots")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('RECRUITER')")
+    public ResponseEntity<List<TimeSlot>> getPanelSlots(@RequestBody PanelSlotRequest request) {
+        try {
+            if (request.getInterviewerEmails() == null || request.getInterviewerEmails().isEmpty()
+                    || request.getStartDate() == null || request.getEndDate() == null) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            List<TimeSlot> slots = interviewSchedulingService.findPanelSlots(
+                    request.getInterviewerEmails(), request.getCandidateBlockedTimes(),
+                    request.getStartDate(), request.getEndDate(),
+                    request.getDurationMinutes(), request.getMaxSlots());
+
+            return ResponseEntity.ok(slots);
+
+        } catch (Exception e) {
+            loggingService.error("Failed to get panel slots via API", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/types")
     public ResponseEntity<Map<String, Object>> getInterviewTypes() {
         try {
@@ -0,0 +1,88 @@
+package com.example.job_platform.Controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.job_platform.Service.LoggingService;
+import com.example.job_platform.Service.LoggingService.LogLevel;
+
+/**
+ * Runtime log level administration. Changes apply immediately to every registered
+ * category and are not persisted; a restart goes back to application.properties.
+ */
+@RestController
+@RequestMapping("/api/admin/logging")
+public class LoggingController {
+
+    @Autowired
+    private LoggingService loggingService;
+
+    public static class LevelRequest {
+
+        private String level;
+
+        public LevelRequest() {
+        }
+
+        public String getLevel() {
+            return level;
+        }
+
+        public void setLevel(String level) {
+            this.level = level;
+        }
+    }
+
+    @GetMapping("/levels")
+    public ResponseEntity<Map<String, Object>> getLevels() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("effective", loggingService.getLevels());
+        response.put("configured", loggingService.getConfiguredLevels());
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/levels/{category}")
+    public ResponseEntity<Map<String, Object>> setLevel(@PathVariable String category,
+                                                        @RequestBody LevelRequest request) {
+        try {
+            if (request.getLevel() == null) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            loggingService.setLevel(category, LogLevel.valueOf(request.getLevel().trim().toUpperCase()));
+            return getLevels();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Removes the category's own level so it inherits from its parent again
+    @DeleteMapping("/levels/{category}")
+    public ResponseEntity<Map<String, Object>> resetLevel(@PathVariable String category) {
+        try {
+            loggingService.setLevel(category, null);
+            return getLevels();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("logged", loggingService.getLogStatistics());
+        response.put("dropped", loggingService.getDroppedStatistics());
+        response.put("bufferFillRatio", loggingService.getBufferFillRatio());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.job_platform.Controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.job_platform.Entity.NotificationCampaign;
+import com.example.job_platform.Enum.Role;
+import com.example.job_platform.Exception.ResourceNotFoundException;
+import com.example.job_platform.Service.LoggingService;
+import com.example.job_platform.Service.NotificationService;
+
+/**
+ * Notification campaign administration: start a campaign, follow its progress, and
+ * resume one that failed from its last committed page.
+ */
+@RestController
+@RequestMapping("/api/admin/notification-campaigns")
+public class NotificationCampaignController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    public static class CampaignRequest {
+
+        private String name;
+        // Null sends to every user
+        private Role targetRole;
+        private String subject;
+        // {name} is replaced with each recipient's name
+        private String body;
+
+        public CampaignRequest() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Role getTargetRole() {
+            return targetRole;
+        }
+
+        public void setTargetRole(Role targetRole) {
+            this.targetRole = targetRole;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public void setSubject(String subject) {
+            this.subject = subject;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<NotificationCampaign> startCampaign(@RequestBody CampaignRequest request) {
+        try {
+            if (request.getName() == null || request.getSubject() == null || request.getBody() == null) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            NotificationCampaign campaign = notificationService.startCampaign(request.getName(),
+                    request.getTargetRole(), request.getSubject(), request.getBody());
+
+            loggingService.logUserAction("API_ADMIN", "NOTIFICATION_CAMPAIGN_START",
+                    String.format("Started campaign %d: %s", campaign.getId(), campaign.getName()));
+
+            return ResponseEntity.accepted().body(campaign);
+        } catch (Exception e) {
+            loggingService.error("Failed to start notification campaign via API", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{campaignId}")
+    public ResponseEntity<NotificationCampaign> getCampaign(@PathVariable Long campaignId) {
+        try {
+            return ResponseEntity.ok(notificationService.getCampaign(campaignId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Only a failed campaign is restarted; any other is returned unchanged
+    @PostMapping("/{campaignId}/resume")
+    public ResponseEntity<NotificationCampaign> resumeCampaign(@PathVariable Long campaignId) {
+        try {
+            NotificationCampaign campaign = notificationService.resumeCampaign(campaignId);
+
+            loggingService.logUserAction("API_ADMIN", "NOTIFICATION_CAMPAIGN_RESUME",
+                    String.format("Resume requested for campaign %d, now %s", campaignId, campaign.getStatus()));
+
+            return ResponseEntity.ok(campaign);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            loggingService.error("Failed to resume notification campaign via API", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.job_platform.Controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.job_platform.Entity.InAppNotification;
+import com.example.job_platform.Entity.User;
+import com.example.job_platform.Exception.ResourceNotFoundException;
+import com.example.job_platform.Repository.UserRepository;
+import com.example.job_platform.Service.InAppNotificationService;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    @Autowired
+    private InAppNotificationService inAppNotificationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public static class MarkReadRequest {
+
+        private List<Long> notificationIds;
+
+        public MarkReadRequest() {
+        }
+
+        public List<Long> getNotificationIds() {
+            return notificationIds;
+        }
+
+        public void setNotificationIds(List<Long> notificationIds) {
+            this.notificationIds = notificationIds;
+        }
+    }
+
+    /**
+     * Live notification stream. Clients reconnecting with Last-Event-ID receive the
+     * entries they missed before new ones.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return inAppNotificationService.connect(getCurrentUser().getId(), lastEventId);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<InAppNotification>> getInbox(@RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(inAppNotificationService.getInbox(getCurrentUser().getId(), limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("unread", inAppNotificationService.getUnreadCount(getCurrentUser().getId()));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/read")
+    public ResponseEntity<Map<String, Object>> markRead(@RequestBody MarkReadRequest request) {
+        try {
+            if (request.getNotificationIds() == null || request.getNotificationIds().isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("updated", inAppNotificationService.markRead(getCurrentUser().getId(),
+                    request.getNotificationIds()));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private User getCurrentUser() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User", email));
+    }
+}
@@ -63,6 +63,16 @@ public class PerformanceMonitoringController {
         }
     }
 
+    @GetMapping("/metrics/correlation/{correlationId}")
+    public ResponseEntity<List<PerformanceMetric>> getMetricsByCorrelationId(@PathVariable String correlationId) {
+        try {
+            List<PerformanceMetric> metrics = performanceMonitoringService.getMetricsByCorrelationId(correlationId);
+            return ResponseEntity.ok(metrics);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/metrics/slow")
     public ResponseEntity<List<PerformanceMetric>> getSlowOperations(@RequestParam(defaultValue = "3000") long thresholdMs,
             @RequestParam(defaultValue = "20") int limit) {
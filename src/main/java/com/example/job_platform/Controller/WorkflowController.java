@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.job_platform.Service.LoggingService;
 import com.example.job_platform.Service.WorkflowService;
+import com.example.job_platform.Service.WorkflowService.BulkJob;
 import com.example.job_platform.Service.WorkflowService.WorkflowAction;
 import com.example.job_platform.Service.WorkflowService.WorkflowState;
 import com.example.job_platform.Service.WorkflowService.WorkflowTransition;
@@ -163,23 +164,41 @@ public class WorkflowController {
 
     @PostMapping("/bulk-process")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<String> bulkProcessApplications(@RequestBody BulkWorkflowRequest request) {
+    public ResponseEntity<Object> bulkProcessApplications(@RequestBody BulkWorkflowRequest request) {
         try {
-            workflowService.bulkProcessApplications(request.getApplicationIds(), request.getAction(),
+            if (request.getApplicationIds() == null || request.getApplicationIds().isEmpty() || request.getAction() == null) {
+                return ResponseEntity.badRequest().body("Application IDs and action are required");
+            }
+
+            BulkJob job = workflowService.submitBulkProcess(request.getApplicationIds(), request.getAction(),
                     "API_ADMIN", request.getComments());
 
-            loggingService.logUserAction("API_ADMIN", "BULK_WORKFLOW_PROCESS",
-                    String.format("Bulk processed %d applications with action: %s",
-                            request.getApplicationIds().size(), request.getAction()));
+            loggingService.logUserAction("API_ADMIN", "BULK_WORKFLOW_SUBMIT",
+                    String.format("Submitted bulk job %s for %d applications with action: %s",
+                            job.getJobId(), job.getTotalApplications(), request.getAction()));
 
-            return ResponseEntity.ok(String.format("Successfully processed %d applications",
-                    request.getApplicationIds().size()));
+            return ResponseEntity.accepted().body(job);
         } catch (Exception e) {
             loggingService.error("Failed to bulk process applications via API", e);
             return ResponseEntity.badRequest().body("Failed to bulk process applications: " + e.getMessage());
         }
     }
 
+    @GetMapping("/bulk-process/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkJob> getBulkProcessStatus(@PathVariable Long jobId) {
+        try {
+            BulkJob job = workflowService.getBulkJob(jobId);
+            if (job == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(job);
+        } catch (Exception e) {
+            loggingService.error("Failed to get bulk job status via API", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/status/{applicationId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('RECRUITER') or hasRole('STUDENT')")
     public ResponseEntity<Object> getWorkflowStatus(@PathVariable Long applicationId) {
@@ -0,0 +1,74 @@
+package com.example.job_platform.Entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * One entry in a user's in-app inbox. The id doubles as the SSE event id, so a
+ * reconnecting client can ask for everything after the last event it saw.
+ */
+@Entity
+@Table(name = "in_app_notifications", indexes = {
+    @Index(name = "idx_in_app_notifications_user", columnList = "user_id, id")
+})
+public class InAppNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String title;
+
+    @Column(length = 2000)
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public InAppNotification() {
+    }
+
+    public InAppNotification(Long userId, String title, String message) {
+        this.userId = userId;
+        this.title = title;
+        this.message = message;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.job_platform.Entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import com.example.job_platform.Enum.InterviewStatus;
+import com.example.job_platform.Enum.InterviewType;
+
+@Entity
+@Table(name = "interviews", indexes = {
+    @Index(name = "idx_interviews_application", columnList = "application_id"),
+    @Index(name = "idx_interviews_interviewer", columnList = "interviewer_email"),
+    @Index(name = "idx_interviews_scheduled_time", columnList = "scheduled_time")
+})
+public class Interview {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    private InterviewType type;
+
+    @Column(name = "scheduled_time", nullable = false)
+    private LocalDateTime scheduledTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "interviewer_email", nullable = false)
+    private String interviewerEmail;
+
+    @Column(name = "interviewer_name")
+    private String interviewerName;
+
+    @Column(name = "meeting_link")
+    private String meetingLink;
+
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    private InterviewStatus status;
+
+    @Column(length = 2000)
+    private String notes;
+
+    private Integer score;
+
+    @Column(length = 2000)
+    private String feedback;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public Interview() {
+    }
+
+    public Interview(Long applicationId, InterviewType type, LocalDateTime scheduledTime,
+            LocalDateTime endTime, String interviewerEmail, String interviewerName) {
+        this.applicationId = applicationId;
+        this.type = type;
+        this.scheduledTime = scheduledTime;
+        this.endTime = endTime;
+        this.interviewerEmail = interviewerEmail;
+        this.interviewerName = interviewerName;
+        this.status = InterviewStatus.SCHEDULED;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public InterviewType getType() {
+        return type;
+    }
+
+    public LocalDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+
+    public void setScheduledTime(LocalDateTime scheduledTime) {
+        this.scheduledTime = scheduledTime;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getInterviewerEmail() {
+        return interviewerEmail;
+    }
+
+    public void setInterviewerEmail(String interviewerEmail) {
+        this.interviewerEmail = interviewerEmail;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+
+    public void setInterviewerName(String interviewerName) {
+        this.interviewerName = interviewerName;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getMeetingLink() {
+        return meetingLink;
+    }
+
+    public void setMeetingLink(String meetingLink) {
+        this.meetingLink = meetingLink;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public InterviewStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(InterviewStatus status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getFeedback() {
+        return feedback;
+    }
+
+    public void setFeedback(String feedback) {
+        this.feedback = feedback;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
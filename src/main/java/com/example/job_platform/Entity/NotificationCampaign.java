@@ -0,0 +1,134 @@
+package com.example.job_platform.Entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import com.example.job_platform.Enum.CampaignStatus;
+import com.example.job_platform.Enum.Role;
+
+/**
+ * A notification sent to every user, or every user with one role. Recipients are
+ * walked in id order and {@code lastUserId} is committed with each enqueued page,
+ * so an interrupted campaign resumes after the last page it finished.
+ */
+@Entity
+@Table(name = "notification_campaigns")
+public class NotificationCampaign {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_role")
+    private Role targetRole;
+
+    private String subject;
+
+    // {name} is replaced with each recipient's name
+    @Lob
+    @Column(name = "body_template")
+    private String bodyTemplate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CampaignStatus status;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(name = "enqueued_count", nullable = false)
+    private long enqueuedCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public NotificationCampaign() {
+    }
+
+    public NotificationCampaign(String name, Role targetRole, String subject, String bodyTemplate) {
+        this.name = name;
+        this.targetRole = targetRole;
+        this.subject = subject;
+        this.bodyTemplate = bodyTemplate;
+        this.status = CampaignStatus.RUNNING;
+        this.lastUserId = 0L;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Role getTargetRole() {
+        return targetRole;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBodyTemplate() {
+        return bodyTemplate;
+    }
+
+    public CampaignStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CampaignStatus status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+        this.completedAt = status != CampaignStatus.RUNNING ? this.updatedAt : null;
+    }
+
+    public Long getLastUserId() {
+        return lastUserId;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount;
+    }
+
+    // Advances the cursor past a page of recipients
+    public void recordPage(Long lastUserId, int enqueued) {
+        this.lastUserId = lastUserId;
+        this.enqueuedCount += enqueued;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
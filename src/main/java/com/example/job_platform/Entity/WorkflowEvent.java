@@ -0,0 +1,91 @@
+package com.example.job_platform.Entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * Append-only record of a single workflow transition. Rows are never updated.
+ */
+@Entity
+@Table(name = "workflow_events", indexes = {
+    @Index(name = "idx_workflow_events_application", columnList = "application_id")
+})
+public class WorkflowEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "from_state")
+    private String fromState;
+
+    @Column(name = "to_state", nullable = false)
+    private String toState;
+
+    private String action;
+
+    @Column(name = "performed_by")
+    private String performedBy;
+
+    @Column(length = 1000)
+    private String comments;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public WorkflowEvent() {
+    }
+
+    public WorkflowEvent(Long applicationId, String fromState, String toState, String action,
+            String performedBy, String comments, LocalDateTime occurredAt) {
+        this.applicationId = applicationId;
+        this.fromState = fromState;
+        this.toState = toState;
+        this.action = action;
+        this.performedBy = performedBy;
+        this.comments = comments;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public String getFromState() {
+        return fromState;
+    }
+
+    public String getToState() {
+        return toState;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getPerformedBy() {
+        return performedBy;
+    }
+
+    public String getComments() {
+        return comments;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
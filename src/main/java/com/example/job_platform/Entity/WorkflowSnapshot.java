@@ -0,0 +1,56 @@
+package com.example.job_platform.Entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Current workflow state of an application as of {@code lastEventId}.
+ * Startup loads these and replays only the events written after them.
+ */
+@Entity
+@Table(name = "workflow_snapshots")
+public class WorkflowSnapshot {
+
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Column(nullable = false)
+    private String state;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public WorkflowSnapshot() {
+    }
+
+    public WorkflowSnapshot(Long applicationId, String state, Long lastEventId) {
+        this.applicationId = applicationId;
+        this.state = state;
+        this.lastEventId = lastEventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public Long getLastEventId() {
+        return lastEventId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
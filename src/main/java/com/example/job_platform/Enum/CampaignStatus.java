@@ -0,0 +1,7 @@
+package com.example.job_platform.Enum;
+
+public enum CampaignStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.example.job_platform.Enum;
+
+public enum InterviewStatus {
+    SCHEDULED,
+    CONFIRMED,
+    IN_PROGRESS,
+    COMPLETED,
+    CANCELLED,
+    RESCHEDULED,
+    NO_SHOW
+}
@@ -0,0 +1,9 @@
+package com.example.job_platform.Enum;
+
+public enum InterviewType {
+    PHONE_SCREENING,
+    TECHNICAL_INTERVIEW,
+    HR_INTERVIEW,
+    PANEL_INTERVIEW,
+    FINAL_INTERVIEW
+}
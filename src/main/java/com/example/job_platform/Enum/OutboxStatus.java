@@ -0,0 +1,9 @@
+package com.example.job_platform.Enum;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    SUPERSEDED,
+    DEAD
+}
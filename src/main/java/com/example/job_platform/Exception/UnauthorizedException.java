@@ -24,4 +24,13 @@ public class UnauthorizedException extends JobPlatformException {
                 HttpStatus.UNAUTHORIZED.value()
         );
     }
+
+    public UnauthorizedException(String action, String reason, String userMessage) {
+        super(
+                "UNAUTHORIZED_ACCESS",
+                String.format("User is not authorized to %s: %s", action, reason),
+                userMessage,
+                HttpStatus.UNAUTHORIZED.value()
+        );
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.job_platform.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.job_platform.Entity.InAppNotification;
+
+@Repository
+public interface InAppNotificationRepository extends JpaRepository<InAppNotification, Long> {
+
+    List<InAppNotification> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    // Replay for a client reconnecting with Last-Event-ID
+    List<InAppNotification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    long countByUserIdAndReadFalse(Long userId);
+
+    @Modifying
+    @Query("UPDATE InAppNotification n SET n.read = true WHERE n.userId = :userId AND n.id IN :ids")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM InAppNotification n WHERE n.userId = :userId AND n.id <= :cutoffId")
+    int deleteUpTo(@Param("userId") Long userId, @Param("cutoffId") Long cutoffId);
+}
@@ -0,0 +1,10 @@
+package com.example.job_platform.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.job_platform.Entity.Interview;
+
+@Repository
+public interface InterviewRepository extends JpaRepository<Interview, Long> {
+}
@@ -0,0 +1,15 @@
+package com.example.job_platform.Repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.job_platform.Entity.NotificationCampaign;
+import com.example.job_platform.Enum.CampaignStatus;
+
+@Repository
+public interface NotificationCampaignRepository extends JpaRepository<NotificationCampaign, Long> {
+
+    List<NotificationCampaign> findByStatus(CampaignStatus status);
+}
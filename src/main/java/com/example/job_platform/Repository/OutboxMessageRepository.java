@@ -0,0 +1,47 @@
+package com.example.job_platform.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.job_platform.Entity.OutboxMessage;
+import com.example.job_platform.Enum.OutboxStatus;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    @Query("SELECT m.id FROM OutboxMessage m WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Succeeds for exactly one dispatcher, even across instances
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.example.job_platform.Enum.OutboxStatus.SENDING, m.claimedAt = :now "
+            + "WHERE m.id = :id AND m.status = com.example.job_platform.Enum.OutboxStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Hands back messages whose dispatcher died mid-send
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.example.job_platform.Enum.OutboxStatus.PENDING "
+            + "WHERE m.status = com.example.job_platform.Enum.OutboxStatus.SENDING AND m.claimedAt < :cutoff")
+    int releaseStaleClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    List<OutboxMessage> findByDigestKeyInAndStatus(Collection<String> digestKeys, OutboxStatus status);
+
+    @Query("SELECT m.id FROM OutboxMessage m WHERE m.digestKey = :digestKey "
+            + "AND m.status = com.example.job_platform.Enum.OutboxStatus.PENDING")
+    List<Long> findPendingIdsByDigestKey(@Param("digestKey") String digestKey);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.example.job_platform.Enum.OutboxStatus.SUPERSEDED "
+            + "WHERE m.supersedeKey IN :keys AND m.status = com.example.job_platform.Enum.OutboxStatus.PENDING")
+    int supersede(@Param("keys") Collection<String> keys);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -1,10 +1,15 @@
 package com.example.job_platform.Repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.job_platform.Entity.User;
+import com.example.job_platform.Enum.Role;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    // Just the columns a notification needs, so fan-out doesn't load whole users
+    interface Recipient {
+        Long getId();
+
+        String getName();
+
+        String getEmail();
+    }
+
+    // Keyset pages for notification fan-out
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<Recipient> findRecipientsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email FROM User u "
+            + "WHERE u.role = :role AND u.id > :lastId ORDER BY u.id")
+    List<Recipient> findRecipientsByRoleAfter(@Param("role") Role role, @Param("lastId") Long lastId, Pageable pageable);
+
 }
@@ -0,0 +1,22 @@
+package com.example.job_platform.Repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.job_platform.Entity.WorkflowEvent;
+
+@Repository
+public interface WorkflowEventRepository extends JpaRepository<WorkflowEvent, Long> {
+
+    List<WorkflowEvent> findByApplicationIdOrderByIdAsc(Long applicationId);
+
+    // Keyset page used when replaying the log
+    List<WorkflowEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM WorkflowEvent e")
+    long findMaxId();
+}
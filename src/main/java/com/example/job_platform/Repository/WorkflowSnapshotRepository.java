@@ -0,0 +1,14 @@
+package com.example.job_platform.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.job_platform.Entity.WorkflowSnapshot;
+
+@Repository
+public interface WorkflowSnapshotRepository extends JpaRepository<WorkflowSnapshot, Long> {
+
+    @Query("SELECT COALESCE(MAX(s.lastEventId), 0) FROM WorkflowSnapshot s")
+    long findCheckpoint();
+}
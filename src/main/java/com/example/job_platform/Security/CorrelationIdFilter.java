@@ -0,0 +1,61 @@
+package com.example.job_platform.Security;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens the {@link RequestContext} for each request ahead of the security chain.
+ * A well-formed incoming X-Correlation-ID is kept so ids line up across services;
+ * otherwise a new one is generated. The id is echoed back in the response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String CORRELATION_HEADER = "X-Correlation-ID";
+    private static final int MAX_CORRELATION_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String correlationId = request.getHeader(CORRELATION_HEADER);
+        if (!isValid(correlationId)) {
+            correlationId = RequestContext.newCorrelationId();
+        }
+        response.setHeader(CORRELATION_HEADER, correlationId);
+
+        RequestContext previous = RequestContext.attach(
+                new RequestContext(correlationId, request.getMethod() + " " + request.getRequestURI()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestContext.restore(previous);
+        }
+    }
+
+    // Only ASCII [A-Za-z0-9._-], which is safe to copy into log lines and headers
+    private static boolean isValid(String correlationId) {
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_CORRELATION_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            boolean allowed = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
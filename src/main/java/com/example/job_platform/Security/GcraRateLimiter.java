@@ -0,0 +1,121 @@
+package com.example.job_platform.Security;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-key rate limiter using the generic cell rate algorithm: each key keeps only its
+ * theoretical arrival time (TAT), the time by which its allowance would be fully
+ * restored. An attempt is allowed while the TAT is at most one burst ahead of now and
+ * pushes it one emission interval further; that is a sliding window with no buckets
+ * to reset.
+ *
+ * Keys are stored as seeded 64-bit hashes in fixed open-addressed tables split into
+ * locked shards, so memory is set at construction. A slot whose TAT has passed is as
+ * good as empty and is reused; when a short probe finds neither the key nor a free
+ * slot, the entry closest to expiring is evicted.
+ */
+public final class GcraRateLimiter {
+
+    private static final int SHARDS = 16;
+    private static final int PROBE_LENGTH = 8;
+    private static final long EMPTY = 0;
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final Shard[] shards = new Shard[SHARDS];
+    private final long seed = KeyHash.newSeed();
+
+    private static final class Shard {
+
+        private final long[] keys;
+        private final long[] arrivals;
+        private final int mask;
+
+        Shard(int capacity) {
+            this.keys = new long[capacity];
+            this.arrivals = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        // The key's slot if present, otherwise a free or expired slot, otherwise the entry expiring soonest
+        int slotFor(long key, long now) {
+            int start = (int) (key >>> 32) & mask;
+            int reusable = -1;
+            int victim = start;
+            for (int i = 0; i < PROBE_LENGTH; i++) {
+                int slot = (start + i) & mask;
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                if (reusable < 0 && (keys[slot] == EMPTY || arrivals[slot] - now <= 0)) {
+                    reusable = slot;
+                }
+                if (arrivals[slot] - arrivals[victim] < 0) {
+                    victim = slot;
+                }
+            }
+            return reusable >= 0 ? reusable : victim;
+        }
+    }
+
+    /**
+     * @param permitsPerMinute sustained rate per key
+     * @param burst            attempts allowed back to back before the rate applies
+     * @param capacity         keys tracked at once, rounded up to a power of two
+     */
+    public GcraRateLimiter(double permitsPerMinute, int burst, int capacity) {
+        if (permitsPerMinute <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and burst");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / permitsPerMinute);
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+
+        int perShard = Integer.highestOneBit(Math.max(capacity / SHARDS, PROBE_LENGTH) - 1) << 1;
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new Shard(perShard);
+        }
+    }
+
+    /**
+     * Takes one attempt for the key. Returns 0 if it is allowed, otherwise the
+     * nanoseconds until it would be; a rejected attempt uses up nothing.
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        long hash = hash(key);
+        Shard shard = shards[(int) hash & (SHARDS - 1)];
+        synchronized (shard) {
+            int slot = shard.slotFor(hash, now);
+            long arrival = shard.keys[slot] == hash && shard.arrivals[slot] - now > 0 ? shard.arrivals[slot] : now;
+
+            long wait = arrival - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            shard.keys[slot] = hash;
+            shard.arrivals[slot] = arrival + emissionIntervalNanos;
+            return 0;
+        }
+    }
+
+    // Gives the key its full allowance back
+    public void reset(String key) {
+        long hash = hash(key);
+        Shard shard = shards[(int) hash & (SHARDS - 1)];
+        synchronized (shard) {
+            int slot = shard.slotFor(hash, System.nanoTime());
+            if (shard.keys[slot] == hash) {
+                shard.keys[slot] = EMPTY;
+            }
+        }
+    }
+
+    // Never EMPTY, which marks a free slot
+    private long hash(String key) {
+        long hash = KeyHash.of(key, seed);
+        return hash != EMPTY ? hash : 1;
+    }
+}
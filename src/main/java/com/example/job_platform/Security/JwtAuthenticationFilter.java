@@ -52,6 +52,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                    RequestContext context = RequestContext.current();
+                    if (context != null) {
+                        context.setUserEmail(userDetails.getUsername());
+                    }
                 }
             } catch (Exception e) {
                 logger.error("JWT Token validation failed", e);
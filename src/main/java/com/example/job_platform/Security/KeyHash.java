@@ -0,0 +1,32 @@
+package com.example.job_platform.Security;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeded 64-bit string hashing for the fixed-size tables that count client-chosen keys
+ * (emails, IP addresses). Each table draws its own random seed, so a client can't pick
+ * keys that are known to share slots or counters.
+ */
+public final class KeyHash {
+
+    private KeyHash() {
+    }
+
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    // FNV-1a over the characters, then the MurmurHash3 finalizer to spread the bits
+    public static long of(String key, long seed) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.job_platform.Security;
+
+/**
+ * Failed-login counts per key with lockout, in fixed memory. Failures count towards a
+ * lockout while each comes within one lockout duration of the previous; reaching the
+ * limit locks the key for that duration, after which its entry expires and counting
+ * starts from zero again. Failures while locked don't extend the lock.
+ *
+ * Laid out like {@link GcraRateLimiter}: seeded 64-bit key hashes in fixed
+ * open-addressed tables split into locked shards. An expired entry is as good as
+ * empty; when a short probe finds neither the key nor a free slot, the entry closest
+ * to expiring is evicted.
+ */
+public final class LoginFailureTracker {
+
+    private static final int SHARDS = 16;
+    private static final int PROBE_LENGTH = 8;
+    private static final long EMPTY = 0;
+
+    private final int maxFailures;
+    private final long lockoutNanos;
+    private final Shard[] shards = new Shard[SHARDS];
+    private final long seed = KeyHash.newSeed();
+
+    private static final class Shard {
+
+        private final long[] keys;
+        // When the entry stops counting: lockoutNanos after the last failure, or when the lock ends
+        private final long[] expiries;
+        private final int[] failures;
+        private final int mask;
+
+        Shard(int capacity) {
+            this.keys = new long[capacity];
+            this.expiries = new long[capacity];
+            this.failures = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        boolean isLive(int slot, long now) {
+            return keys[slot] != EMPTY && expiries[slot] - now > 0;
+        }
+
+        // The key's live slot, or -1
+        int find(long key, long now) {
+            int start = (int) (key >>> 32) & mask;
+            for (int i = 0; i < PROBE_LENGTH; i++) {
+                int slot = (start + i) & mask;
+                if (keys[slot] == key) {
+                    return isLive(slot, now) ? slot : -1;
+                }
+            }
+            return -1;
+        }
+
+        // The key's slot if present, otherwise a free or expired slot, otherwise the entry expiring soonest
+        int slotFor(long key, long now) {
+            int start = (int) (key >>> 32) & mask;
+            int reusable = -1;
+            int victim = start;
+            for (int i = 0; i < PROBE_LENGTH; i++) {
+                int slot = (start + i) & mask;
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                if (reusable < 0 && !isLive(slot, now)) {
+                    reusable = slot;
+                }
+                if (expiries[slot] - expiries[victim] < 0) {
+                    victim = slot;
+                }
+            }
+            return reusable >= 0 ? reusable : victim;
+        }
+    }
+
+    /**
+     * @param maxFailures  failures that lock the key
+     * @param lockoutNanos how long a lock lasts, and how long a failure keeps counting
+     * @param capacity     keys tracked at once, rounded up to a power of two
+     */
+    public LoginFailureTracker(int maxFailures, long lockoutNanos, int capacity) {
+        if (maxFailures < 1 || lockoutNanos <= 0) {
+            throw new IllegalArgumentException("Login lockout needs a positive failure limit and duration");
+        }
+        this.maxFailures = maxFailures;
+        this.lockoutNanos = lockoutNanos;
+
+        int perShard = Integer.highestOneBit(Math.max(capacity / SHARDS, PROBE_LENGTH) - 1) << 1;
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new Shard(perShard);
+        }
+    }
+
+    // Records one failure and returns the failures now counted; the key is locked once it reaches the limit
+    public int recordFailure(String key) {
+        return recordFailure(key, System.nanoTime());
+    }
+
+    int recordFailure(String key, long now) {
+        long hash = hash(key);
+        Shard shard = shards[(int) hash & (SHARDS - 1)];
+        synchronized (shard) {
+            int slot = shard.slotFor(hash, now);
+            int failures = shard.keys[slot] == hash && shard.isLive(slot, now) ? shard.failures[slot] : 0;
+            if (failures >= maxFailures) {
+                // Already locked; the lock runs out when it was going to
+                return failures;
+            }
+            failures++;
+            shard.keys[slot] = hash;
+            shard.failures[slot] = failures;
+            shard.expiries[slot] = now + lockoutNanos;
+            return failures;
+        }
+    }
+
+    // Failures currently counted for the key, 0 once its entry has expired
+    public int failureCount(String key) {
+        long hash = hash(key);
+        Shard shard = shards[(int) hash & (SHARDS - 1)];
+        synchronized (shard) {
+            int slot = shard.find(hash, System.nanoTime());
+            return slot >= 0 ? shard.failures[slot] : 0;
+        }
+    }
+
+    public boolean isLocked(String key) {
+        return isLocked(key, System.nanoTime());
+    }
+
+    boolean isLocked(String key, long now) {
+        long hash = hash(key);
+        Shard shard = shards[(int) hash & (SHARDS - 1)];
+        synchronized (shard) {
+            int slot = shard.find(hash, now);
+            return slot >= 0 && shard.failures[slot] >= maxFailures;
+        }
+    }
+
+    // Forgets the key's failures, lifting any lock
+    public void clear(String key) {
+        long hash = hash(key);
+        Shard shard = shards[(int) hash & (SHARDS - 1)];
+        synchronized (shard) {
+            int slot = shard.find(hash, System.nanoTime());
+            if (slot >= 0) {
+                shard.keys[slot] = EMPTY;
+            }
+        }
+    }
+
+    // Keys locked right now; walks the whole table
+    public int lockedCount() {
+        return lockedCount(System.nanoTime());
+    }
+
+    int lockedCount(long now) {
+        int locked = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                for (int slot = 0; slot < shard.keys.length; slot++) {
+                    if (shard.isLive(slot, now) && shard.failures[slot] >= maxFailures) {
+                        locked++;
+                    }
+                }
+            }
+        }
+        return locked;
+    }
+
+    // Never EMPTY, which marks a free slot
+    private long hash(String key) {
+        long hash = KeyHash.of(key, seed);
+        return hash != EMPTY ? hash : 1;
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.job_platform.Security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.job_platform.Exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.job_platform.Service.LoggingService;
+import com.example.job_platform.Service.SecurityAuditService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Throttles POST /api/auth/login before the user lookup and BCrypt check run. Each
+ * attempt must pass a {@link GcraRateLimiter} for the email, the client IP and its
+ * subnet (/24 for IPv4, /64 for IPv6), and the account must not be locked out;
+ * otherwise the client gets 429 with a Retry-After header. The outcome of attempts
+ * that get through is reported to {@link SecurityAuditService}, where only a 401
+ * counts as a failure, and a successful login gives the email its allowance back.
+ * The filter runs ahead of Spring Security, so its own rejections carry the CORS
+ * headers the security chain would have added. The client IP is the remote address as
+ * resolved by server.forward-headers-strategy, which the container applies before any
+ * filter.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    // Far above any real login body; larger ones are refused rather than buffered
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    @Autowired
+    private SecurityAuditService securityAuditService;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // By name; Spring MVC registers other CorsConfigurationSource beans
+    @Autowired
+    @Qualifier("corsConfigurationSource")
+    private CorsConfigurationSource corsConfigurationSource;
+
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    @Value("${app.security.login-limit.email-per-minute:5}")
+    private double emailPerMinute = 5;
+
+    @Value("${app.security.login-limit.ip-per-minute:20}")
+    private double ipPerMinute = 20;
+
+    @Value("${app.security.login-limit.subnet-per-minute:100}")
+    private double subnetPerMinute = 100;
+
+    @Value("${app.security.login-limit.table-size:65536}")
+    private int tableSize = 65536;
+
+    private GcraRateLimiter emailLimiter;
+    private GcraRateLimiter ipLimiter;
+    private GcraRateLimiter subnetLimiter;
+    private LoggingService.LogCategory rateLimitLog;
+
+    @PostConstruct
+    public void createLimiters() {
+        // Bursts equal one minute's allowance
+        emailLimiter = new GcraRateLimiter(emailPerMinute, (int) Math.ceil(emailPerMinute), tableSize);
+        ipLimiter = new GcraRateLimiter(ipPerMinute, (int) Math.ceil(ipPerMinute), tableSize);
+        subnetLimiter = new GcraRateLimiter(subnetPerMinute, (int) Math.ceil(subnetPerMinute), tableSize);
+        rateLimitLog = loggingService.category("security.login");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LOGIN_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        byte[] body = readBody(request.getInputStream());
+        if (body == null) {
+            reject(response, request, HttpStatus.PAYLOAD_TOO_LARGE, "LOGIN_REQUEST_TOO_LARGE",
+                    "Login request is too large", 0);
+            return;
+        }
+
+        String email = extractEmail(body);
+        // Already the forwarded client address when the request came through a trusted proxy
+        String ipAddress = request.getRemoteAddr();
+
+        if (email != null && securityAuditService.isAccountLocked(email)) {
+            rateLimitLog.debug(() -> "Rejected login for locked account " + email + " from " + ipAddress);
+            reject(response, request, HttpStatus.TOO_MANY_REQUESTS, "ACCOUNT_LOCKED",
+                    "Too many failed login attempts. Please try again later.", 0);
+            return;
+        }
+
+        // Widest first, so a throttled subnet doesn't use up its members' own allowances
+        long waitNanos = subnetLimiter.tryAcquire(subnetOf(ipAddress));
+        if (waitNanos == 0) {
+            waitNanos = ipLimiter.tryAcquire(ipAddress);
+        }
+        if (waitNanos == 0 && email != null) {
+            waitNanos = emailLimiter.tryAcquire(email);
+        }
+        if (waitNanos > 0) {
+            rateLimitLog.debug(() -> "Rate limited login for " + email + " from " + ipAddress);
+            reject(response, request, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_LOGIN_ATTEMPTS",
+                    "Too many login attempts. Please try again later.", waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+
+        // Only a 401 means bad credentials; other errors (a database outage, a malformed
+        // request) say nothing about the password and must not lock the account
+        if (email != null) {
+            int status = response.getStatus();
+            if (status < 400) {
+                emailLimiter.reset(email);
+                securityAuditService.recordLoginAttempt(email, ipAddress, true);
+            } else if (status == HttpStatus.UNAUTHORIZED.value()) {
+                securityAuditService.recordLoginAttempt(email, ipAddress, false);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpServletRequest request, HttpStatus status,
+                        String errorCode, String message, long waitNanos) throws IOException {
+        CorsConfiguration corsConfiguration = corsConfigurationSource.getCorsConfiguration(request);
+        if (corsConfiguration != null && !corsProcessor.processRequest(corsConfiguration, request, response)) {
+            // A disallowed origin; the processor has already answered 403
+            return;
+        }
+        response.setStatus(status.value());
+        if (waitNanos > 0) {
+            response.setHeader("Retry-After", Long.toString(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(errorCode, message, LocalDateTime.now(), "uri=" + request.getRequestURI()));
+    }
+
+    // Null when the body is larger than MAX_BODY_BYTES
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            body.write(buffer, 0, read);
+            if (body.size() > MAX_BODY_BYTES) {
+                return null;
+            }
+        }
+        return body.toByteArray();
+    }
+
+    // Normalized so case and padding don't give an address extra allowances
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || email.asText().trim().isEmpty()) {
+                return null;
+            }
+            return SecurityAuditService.normalizeEmail(email.asText());
+        } catch (IOException | RuntimeException e) {
+            // Malformed bodies still count against the IP and subnet; the controller rejects them
+            return null;
+        }
+    }
+
+    static String subnetOf(String ipAddress) {
+        try {
+            // A literal address, so this never does a DNS lookup
+            byte[] address = InetAddress.getByName(ipAddress).getAddress();
+            int prefixBytes = address.length == 4 ? 3 : 8;
+            return Arrays.toString(Arrays.copyOf(address, prefixBytes));
+        } catch (IOException e) {
+            return ipAddress;
+        }
+    }
+
+    /**
+     * Replays the buffered body to the rest of the chain, since the filter has already
+     * consumed the original stream.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Login body is already buffered");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.job_platform.Security;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What identifies the request a thread is working for: a correlation id, the
+ * authenticated user once known, and the route. Set by {@link CorrelationIdFilter},
+ * held in a thread-local, and carried into executor tasks by {@link #wrap(Runnable)}
+ * or a {@link #propagating(ExecutorService)} executor, so logs, audit entries and
+ * metrics from one request share the same id without any lookups.
+ */
+public final class RequestContext {
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String correlationId;
+    private final String route;
+    // Filled in by the JWT filter after the context is opened
+    private volatile String userEmail;
+
+    public RequestContext(String correlationId, String route) {
+        this.correlationId = correlationId;
+        this.route = route;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public void setUserEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    public static String currentCorrelationId() {
+        RequestContext context = CURRENT.get();
+        return context != null ? context.correlationId : null;
+    }
+
+    // Binds the context to this thread and returns what was bound before, for restore()
+    public static RequestContext attach(RequestContext context) {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    public static void restore(RequestContext previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    // 16 hex digits from the thread-local random; unique enough to correlate a request's lines
+    public static String newCorrelationId() {
+        long bits = ThreadLocalRandom.current().nextLong();
+        char[] id = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            id[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+        return new String(id);
+    }
+
+    // Runs the task under the submitting thread's context; unchanged when there is none
+    public static Runnable wrap(Runnable task) {
+        RequestContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            RequestContext previous = attach(context);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * An executor that wraps every task it is given. {@code submit} and {@code invokeAll}
+     * go through {@code execute}, so wrapping there covers all of them.
+     */
+    public static ExecutorService propagating(ExecutorService delegate) {
+        return new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                delegate.execute(wrap(command));
+            }
+
+            @Override
+            public void shutdown() {
+                delegate.shutdown();
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return delegate.shutdownNow();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return delegate.isShutdown();
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return delegate.isTerminated();
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                return delegate.awaitTermination(timeout, unit);
+            }
+        };
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.job_platform.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Secondary indexes over one audit segment: posting lists of record offsets per user
+ * and per type, in append order, and a sparse time index sampling every
+ * {@link #SAMPLE_INTERVAL}th record. Records are appended in time order, so a sample
+ * bounds every record around it and a range query can skip whole stretches without
+ * decoding them. A sealed segment's index is saved next to it and loaded on startup
+ * instead of rescanning the segment.
+ */
+final class AuditSegmentIndex {
+
+    static final int SAMPLE_INTERVAL = 64;
+    // Longer keys are stored but not indexed
+    private static final int MAX_KEY_LENGTH = 1024;
+    private static final int MAGIC = 0x41494458;
+    private static final int VERSION = 1;
+
+    private final Map<String, IntList> byUser = new HashMap<>();
+    private final Map<String, IntList> byType = new HashMap<>();
+    private final LongList sampleTimes = new LongList();
+    private final IntList sampleOffsets = new IntList();
+    private int count;
+    private long minTime = Long.MAX_VALUE;
+    private long maxTime = Long.MIN_VALUE;
+    private int end;
+
+    // Growable int array; avoids boxing an Integer per indexed record
+    static final class IntList {
+
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        // Number of values below the bound; values are ascending
+        int countBelow(int bound) {
+            int position = Arrays.binarySearch(values, 0, size, bound);
+            return position >= 0 ? position : -position - 1;
+        }
+    }
+
+    static final class LongList {
+
+        private long[] values = new long[8];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    void add(int offset, int length, long timestamp, String type, String userId) {
+        if (count % SAMPLE_INTERVAL == 0) {
+            sampleTimes.add(timestamp);
+            sampleOffsets.add(offset);
+        }
+        if (userId != null && userId.length() <= MAX_KEY_LENGTH) {
+            byUser.computeIfAbsent(userId, k -> new IntList()).add(offset);
+        }
+        if (type != null && type.length() <= MAX_KEY_LENGTH) {
+            byType.computeIfAbsent(type, k -> new IntList()).add(offset);
+        }
+        count++;
+        minTime = Math.min(minTime, timestamp);
+        maxTime = Math.max(maxTime, timestamp);
+        end = offset + length;
+    }
+
+    IntList postingsForUser(String userId) {
+        return byUser.get(userId);
+    }
+
+    IntList postingsForType(String type) {
+        return byType.get(type);
+    }
+
+    Map<String, Integer> typeCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        byType.forEach((type, postings) -> counts.put(type, postings.size()));
+        return counts;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long minTime() {
+        return minTime;
+    }
+
+    long maxTime() {
+        return maxTime;
+    }
+
+    int blockCount() {
+        return sampleOffsets.size();
+    }
+
+    int blockStart(int block) {
+        return sampleOffsets.get(block);
+    }
+
+    // The block holding the record just before the offset, or -1
+    int blockBefore(int offset) {
+        return sampleOffsets.countBelow(offset) - 1;
+    }
+
+    int blockEnd(int block) {
+        return block + 1 < sampleOffsets.size() ? sampleOffsets.get(block + 1) : end;
+    }
+
+    // Records up to the last sample older than the given time are all older too
+    int lowerBound(long fromMillis) {
+        if (fromMillis == Long.MIN_VALUE) {
+            return 0;
+        }
+        int sample = firstSampleAfter(fromMillis - 1) - 1;
+        return sample >= 0 ? sampleOffsets.get(sample) + 1 : 0;
+    }
+
+    // Records from the first sample newer than the given time onwards are all newer too
+    int upperBound(long toMillis) {
+        int sample = firstSampleAfter(toMillis);
+        return sample < sampleTimes.size() ? sampleOffsets.get(sample) : end;
+    }
+
+    private int firstSampleAfter(long millis) {
+        int low = 0;
+        int high = sampleTimes.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sampleTimes.get(middle) > millis) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    void write(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeLong(minTime);
+            out.writeLong(maxTime);
+            out.writeInt(end);
+            writePostings(out, byUser);
+            writePostings(out, byType);
+            out.writeInt(sampleTimes.size());
+            for (int i = 0; i < sampleTimes.size(); i++) {
+                out.writeLong(sampleTimes.get(i));
+                out.writeInt(sampleOffsets.get(i));
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static AuditSegmentIndex read(Path file) throws IOException {
+        // One read and bulk copies; the offsets dominate the file
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("Unrecognized audit index: " + file);
+            }
+            AuditSegmentIndex index = new AuditSegmentIndex();
+            index.count = in.getInt();
+            index.minTime = in.getLong();
+            index.maxTime = in.getLong();
+            index.end = in.getInt();
+            readPostings(in, index.byUser);
+            readPostings(in, index.byType);
+            int samples = in.getInt();
+            for (int i = 0; i < samples; i++) {
+                index.sampleTimes.add(in.getLong());
+                index.sampleOffsets.add(in.getInt());
+            }
+            return index;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated audit index: " + file, e);
+        }
+    }
+
+    private static void writePostings(DataOutputStream out, Map<String, IntList> postings) throws IOException {
+        out.writeInt(postings.size());
+        for (Map.Entry<String, IntList> entry : postings.entrySet()) {
+            byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(key.length);
+            out.write(key);
+            IntList offsets = entry.getValue();
+            out.writeInt(offsets.size());
+            for (int i = 0; i < offsets.size(); i++) {
+                out.writeInt(offsets.get(i));
+            }
+        }
+    }
+
+    private static void readPostings(ByteBuffer in, Map<String, IntList> postings) {
+        int keys = in.getInt();
+        for (int k = 0; k < keys; k++) {
+            byte[] key = new byte[in.getInt()];
+            in.get(key);
+            IntList offsets = new IntList();
+            offsets.size = in.getInt();
+            offsets.values = new int[Math.max(offsets.size, 8)];
+            in.asIntBuffer().get(offsets.values, 0, offsets.size);
+            in.position(in.position() + offsets.size * 4);
+            postings.put(new String(key, StandardCharsets.UTF_8), offsets);
+        }
+    }
+}
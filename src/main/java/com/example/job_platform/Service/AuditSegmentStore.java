@@ -0,0 +1,480 @@
+package com.example.job_platform.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only audit storage in fixed-size segment files written through a
+ * {@link MappedByteBuffer}. A record is
+ * {@code [int length][int crc32][long timestamp][long id][type][userId][action][details][correlationId]},
+ * with each string as an int byte length (-1 for null) and UTF-8 bytes. An unused
+ * slot reads as length 0. Recovery scans the newest segment up to the first record
+ * that is empty or fails its checksum and resumes writing there. A segment that can't
+ * fit the next record is sealed and a new one started; sealed segments past the
+ * retention period are deleted. Each segment has an {@link AuditSegmentIndex} that is
+ * kept up to date on append and saved beside the segment when it is sealed.
+ */
+final class AuditSegmentStore {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int HEADER_BYTES = 8;
+    // Keeps one oversized field from taking a whole segment
+    private static final int MAX_FIELD_BYTES = 16 * 1024;
+    static final int MAX_RECORD_BYTES = HEADER_BYTES + 16 + 5 * (4 + MAX_FIELD_BYTES);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long retentionMillis;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    private long activeIndex;
+    private Path activePath;
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+
+    // Per segment number; the newest is the active segment's
+    private final TreeMap<Long, AuditSegmentIndex> indexes = new TreeMap<>();
+    private final Map<Long, ByteBuffer> sealedBuffers = new HashMap<>();
+    private final Map<String, Long> typeCounts = new HashMap<>();
+    private long totalCount;
+    // Newest stored timestamp; records never go below it, so the time index stays ordered
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    AuditSegmentStore(Path directory, int segmentSize, long retentionMillis) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Loads or rebuilds the index of every segment, opens the newest one for appending
+     * after its last intact record and returns up to {@code tailSize} of the most recent
+     * entries, oldest first.
+     */
+    synchronized List<AuditService.AuditEntry> recover(int tailSize) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments();
+
+        if (segments.isEmpty()) {
+            openSegment(1);
+            indexes.put(activeIndex, new AuditSegmentIndex());
+            return new ArrayList<>();
+        }
+
+        for (int i = 0; i < segments.size() - 1; i++) {
+            addIndex(indexOf(segments.get(i)), loadIndex(segments.get(i)));
+        }
+
+        // The active segment has no saved index yet; every record is checksummed while indexing it
+        openSegment(indexOf(segments.get(segments.size() - 1)));
+        ByteBuffer newest = active.duplicate();
+        AuditSegmentIndex activeSegmentIndex = new AuditSegmentIndex();
+        validRecords(newest, offset -> indexRecord(active, offset, activeSegmentIndex));
+        active.position(newest.position());
+        clearTornRecord(active.position());
+        addIndex(activeIndex, activeSegmentIndex);
+        for (AuditSegmentIndex index : indexes.values()) {
+            lastTimestamp = Math.max(lastTimestamp, index.maxTime());
+        }
+
+        List<AuditService.AuditEntry> tail = query(null, null, Long.MIN_VALUE, Long.MAX_VALUE, tailSize);
+        Collections.reverse(tail);
+        return tail;
+    }
+
+    /**
+     * Stores the entry at its timestamp or, if the clock has gone back since the last
+     * append (an entry stamped before a later one took the lock, a DST change in the
+     * system zone), at the last stored timestamp, so the time index stays ordered.
+     */
+    synchronized void append(AuditService.AuditEntry entry) throws IOException {
+        long timestamp = Math.max(lastTimestamp, epochMillis(entry.getTimestamp()));
+        ByteBuffer record = encode(entry, timestamp);
+        if (active.remaining() < record.remaining()) {
+            seal();
+            openSegment(activeIndex + 1);
+            indexes.put(activeIndex, new AuditSegmentIndex());
+        }
+        // Body first and length last, so a torn write reads as empty or fails the checksum
+        int start = active.position();
+        active.position(start + 4);
+        record.position(4);
+        active.put(record);
+        int end = active.position();
+        active.putInt(start, record.limit() - HEADER_BYTES);
+        active.position(end);
+
+        indexes.get(activeIndex).add(start, end - start, timestamp, entry.getType(), entry.getUserId());
+        count(entry.getType(), 1);
+        lastTimestamp = timestamp;
+    }
+
+    /**
+     * Entries in {@code [fromMillis, toMillis]}, newest first, optionally limited to one
+     * user and/or type. Segments and sample blocks outside the range are skipped, and a
+     * user or type query only decodes records on that posting list.
+     */
+    synchronized List<AuditService.AuditEntry> query(String userId, String type, long fromMillis, long toMillis,
+                                                     int limit) throws IOException {
+        List<AuditService.AuditEntry> result = new ArrayList<>(Math.min(limit, 1024));
+        for (Map.Entry<Long, AuditSegmentIndex> segment : indexes.descendingMap().entrySet()) {
+            AuditSegmentIndex index = segment.getValue();
+            if (result.size() >= limit) {
+                break;
+            }
+            if (index.count() == 0 || index.minTime() > toMillis || index.maxTime() < fromMillis) {
+                continue;
+            }
+
+            ByteBuffer buffer = bufferFor(segment.getKey());
+            int low = index.lowerBound(fromMillis);
+            int high = index.upperBound(toMillis);
+
+            if (userId != null || type != null) {
+                AuditSegmentIndex.IntList postings = userId != null
+                        ? index.postingsForUser(userId) : index.postingsForType(type);
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = postings.countBelow(high) - 1; i >= 0 && result.size() < limit; i--) {
+                    int offset = postings.get(i);
+                    if (offset < low) {
+                        break;
+                    }
+                    if (!inRange(buffer, offset, fromMillis, toMillis)) {
+                        continue;
+                    }
+                    AuditService.AuditEntry entry = decodeAt(buffer, offset);
+                    if ((userId == null || userId.equals(entry.getUserId()))
+                            && (type == null || type.equals(entry.getType()))) {
+                        result.add(entry);
+                    }
+                }
+            } else {
+                // Records can only be walked forwards, so each sample block is decoded and emitted reversed
+                List<AuditService.AuditEntry> block = new ArrayList<>(AuditSegmentIndex.SAMPLE_INTERVAL);
+                for (int b = index.blockBefore(high); b >= 0 && result.size() < limit; b--) {
+                    int blockStart = index.blockStart(b);
+                    int blockEnd = index.blockEnd(b);
+                    if (blockEnd <= low) {
+                        break;
+                    }
+
+                    block.clear();
+                    for (int offset = blockStart; offset < blockEnd; offset += HEADER_BYTES + buffer.getInt(offset)) {
+                        if (inRange(buffer, offset, fromMillis, toMillis)) {
+                            block.add(decodeAt(buffer, offset));
+                        }
+                    }
+                    for (int i = block.size() - 1; i >= 0 && result.size() < limit; i--) {
+                        result.add(block.get(i));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Running counts per type over every retained segment
+    synchronized Map<String, Long> getTypeCounts() {
+        return new HashMap<>(typeCounts);
+    }
+
+    synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    // Flushes written records from the page cache to disk
+    synchronized void force() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    // Deletes sealed segments last written before the retention cutoff, with their indexes
+    synchronized int deleteExpiredSegments() throws IOException {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        int deleted = 0;
+        for (Path segment : listSegments()) {
+            if (!segment.equals(activePath) && Files.getLastModifiedTime(segment).toMillis() < cutoff) {
+                long index = indexOf(segment);
+                AuditSegmentIndex removed = indexes.remove(index);
+                if (removed != null) {
+                    countIndex(removed, -1);
+                }
+                sealedBuffers.remove(index);
+                Files.deleteIfExists(indexFile(segment));
+                Files.deleteIfExists(segment);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    synchronized int getSegmentCount() {
+        return indexes.size();
+    }
+
+    synchronized void close() throws IOException {
+        if (active != null) {
+            active.force();
+            activeChannel.close();
+            active = null;
+        }
+    }
+
+    synchronized List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        // Zero-padded indexes sort by name
+        Collections.sort(segments);
+        return segments;
+    }
+
+    // The saved index of a sealed segment, rebuilt and saved again if missing or unreadable
+    private AuditSegmentIndex loadIndex(Path segment) throws IOException {
+        Path file = indexFile(segment);
+        if (Files.exists(file)) {
+            try {
+                return AuditSegmentIndex.read(file);
+            } catch (IOException e) {
+                // Fall through and rebuild from the segment itself
+            }
+        }
+
+        AuditSegmentIndex index = new AuditSegmentIndex();
+        ByteBuffer buffer = bufferFor(indexOf(segment));
+        validRecords(buffer.duplicate(), offset -> indexRecord(buffer, offset, index));
+        index.write(file);
+        return index;
+    }
+
+    private void addIndex(long segment, AuditSegmentIndex index) {
+        indexes.put(segment, index);
+        countIndex(index, 1);
+    }
+
+    private void countIndex(AuditSegmentIndex index, int sign) {
+        totalCount += sign * (long) index.count();
+        index.typeCounts().forEach((type, count) -> typeCounts.merge(type, sign * (long) count, Long::sum));
+        typeCounts.values().removeIf(count -> count == 0);
+    }
+
+    private void count(String type, long delta) {
+        totalCount += delta;
+        if (type != null) {
+            typeCounts.merge(type, delta, Long::sum);
+        }
+    }
+
+    private ByteBuffer bufferFor(long segment) throws IOException {
+        if (segment == activeIndex && active != null) {
+            return active;
+        }
+        ByteBuffer buffer = sealedBuffers.get(segment);
+        if (buffer == null) {
+            try (FileChannel channel = FileChannel.open(segmentFile(segment), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            sealedBuffers.put(segment, buffer);
+        }
+        return buffer;
+    }
+
+    // Reads just the indexed fields of a record
+    private static void indexRecord(ByteBuffer buffer, int offset, AuditSegmentIndex index) {
+        ByteBuffer payload = buffer.duplicate();
+        int length = buffer.getInt(offset);
+        payload.position(offset + HEADER_BYTES);
+        long timestamp = payload.getLong();
+        payload.getLong();
+        String type = string(payload);
+        String userId = string(payload);
+        index.add(offset, HEADER_BYTES + length, timestamp, type, userId);
+    }
+
+    // By the stored timestamp, which is what the index was built from
+    private static boolean inRange(ByteBuffer buffer, int offset, long fromMillis, long toMillis) {
+        long timestamp = buffer.getLong(offset + HEADER_BYTES);
+        return timestamp >= fromMillis && timestamp <= toMillis;
+    }
+
+    // Walks checksummed records from the buffer's position, stopping at the first empty or broken one
+    private static void validRecords(ByteBuffer buffer, IntConsumer consumer) {
+        CRC32 checksum = new CRC32();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                return;
+            }
+
+            ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            checksum.reset();
+            checksum.update(payload);
+            if ((int) checksum.getValue() != expectedCrc) {
+                buffer.position(start);
+                return;
+            }
+
+            consumer.accept(start);
+            buffer.position(start + HEADER_BYTES + length);
+        }
+    }
+
+    private static AuditService.AuditEntry decodeAt(ByteBuffer buffer, int offset) {
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(offset + HEADER_BYTES);
+        payload.limit(offset + HEADER_BYTES + buffer.getInt(offset));
+        return decode(payload.slice());
+    }
+
+    private ByteBuffer encode(AuditService.AuditEntry entry, long timestamp) {
+        byte[][] fields = {
+                bytes(entry.getType()), bytes(entry.getUserId()),
+                bytes(entry.getAction()), bytes(entry.getDetails()), bytes(entry.getCorrelationId())
+        };
+        int size = HEADER_BYTES + 16;
+        for (byte[] field : fields) {
+            size += 4 + (field != null ? field.length : 0);
+        }
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Audit record larger than a segment: " + size + " bytes");
+        }
+        if (scratch.capacity() < size) {
+            scratch = ByteBuffer.allocate(Integer.highestOneBit(size) << 1);
+        }
+
+        scratch.clear();
+        scratch.position(HEADER_BYTES);
+        scratch.putLong(timestamp);
+        scratch.putLong(entry.getId());
+        for (byte[] field : fields) {
+            if (field == null) {
+                scratch.putInt(-1);
+            } else {
+                scratch.putInt(field.length).put(field);
+            }
+        }
+        scratch.flip();
+
+        crc.reset();
+        crc.update(scratch.array(), HEADER_BYTES, scratch.limit() - HEADER_BYTES);
+        scratch.putInt(4, (int) crc.getValue());
+        return scratch;
+    }
+
+    private static AuditService.AuditEntry decode(ByteBuffer payload) {
+        LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(payload.getLong()), ZoneId.systemDefault());
+        long id = payload.getLong();
+        String type = string(payload);
+        String userId = string(payload);
+        String action = string(payload);
+        String details = string(payload);
+        String correlationId = string(payload);
+        return new AuditService.AuditEntry(id, type, userId, action, details, timestamp, correlationId);
+    }
+
+    private static byte[] bytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_FIELD_BYTES) {
+            return bytes;
+        }
+        // Cut on a character boundary so the stored text still decodes cleanly
+        int length = MAX_FIELD_BYTES;
+        while ((bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String string(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > payload.remaining()) {
+            throw new IllegalArgumentException("Truncated audit record");
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Path segmentFile(long index) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static Path indexFile(Path segment) {
+        String name = segment.getFileName().toString();
+        return segment.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    private void openSegment(long index) throws IOException {
+        activeIndex = index;
+        activePath = segmentFile(index);
+        activeChannel = FileChannel.open(activePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void seal() throws IOException {
+        active.force();
+        activeChannel.close();
+        // Mapped writes don't reliably move the modification time, and retention goes by it
+        Files.setLastModifiedTime(activePath, FileTime.fromMillis(System.currentTimeMillis()));
+
+        // The mapping stays valid after the channel closes, so queries keep reading it
+        sealedBuffers.put(activeIndex, active);
+        indexes.get(activeIndex).write(indexFile(activePath));
+    }
+
+    // A torn write is at most one record long; clear it so new records start on zeros
+    private void clearTornRecord(int position) {
+        int end = Math.min(active.limit(), position + MAX_RECORD_BYTES);
+        for (int i = position; i < end; i++) {
+            active.put(i, (byte) 0);
+        }
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
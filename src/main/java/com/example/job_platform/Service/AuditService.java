@@ -1,24 +1,153 @@
 package com.example.job_platform.Service;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.job_platform.Security.RequestContext;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Audit trail. Every entry is appended to durable memory-mapped segment files
+ * ({@link AuditSegmentStore}) and to a fixed-size in-memory ring holding the most
+ * recent entries. Recent-entry queries are served from the ring; queries by user,
+ * type or time range go through the store's per-segment indexes, so they cover the
+ * whole retained history without scanning it. On startup the ring is refilled from
+ * the newest segments.
+ */
 @Service
 public class AuditService {
 
-    private final ConcurrentLinkedQueue<AuditEntry> auditLog = new ConcurrentLinkedQueue<>();
-    private final int MAX_LOG_SIZE = 1000; // Keep last 1000 entries
+    @Autowired
+    private LoggingService loggingService;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Value("${app.audit.directory:data/audit}")
+    private String auditDirectory = "data/audit";
+
+    @Value("${app.audit.segment-size-mb:64}")
+    private int segmentSizeMb = 64;
+
+    @Value("${app.audit.retention-days:365}")
+    private int retentionDays = 365;
+
+    @Value("${app.audit.tail-size:1000}")
+    private int tailSize = 1000;
+
+    // Upper bound on how much audit data a crash of the machine itself can lose
+    @Value("${app.audit.force-interval-ms:1000}")
+    private long forceIntervalMs = 1000;
+
+    private static final int MIN_SEGMENT_BYTES = 1024 * 1024;
+
+    private final Object appendLock = new Object();
+    private final ScheduledExecutorService maintenanceScheduler = Executors.newSingleThreadScheduledExecutor();
+    private AuditTail auditLog = new AuditTail(1000);
+    private AuditSegmentStore store;
+
+    /**
+     * The newest entries in a circular array; size is a field, not a traversal.
+     * Guarded by the service's append lock.
+     */
+    static final class AuditTail {
+
+        private final AuditEntry[] entries;
+        private int next;
+        private int size;
+
+        AuditTail(int capacity) {
+            this.entries = new AuditEntry[capacity];
+        }
+
+        void add(AuditEntry entry) {
+            entries[next] = entry;
+            next = (next + 1) % entries.length;
+            if (size < entries.length) {
+                size++;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        // Newest first, which is append order reversed, so no sorting is needed
+        List<AuditEntry> newestFirst(Predicate<AuditEntry> filter, int limit) {
+            List<AuditEntry> result = new ArrayList<>(Math.min(limit, size));
+            for (int i = 1; i <= size && result.size() < limit; i++) {
+                AuditEntry entry = entries[(next - i + entries.length) % entries.length];
+                if (filter.test(entry)) {
+                    result.add(entry);
+                }
+            }
+            return result;
+        }
+    }
+
+    @PostConstruct
+    public void openStore() {
+        long startTime = System.currentTimeMillis();
+        AuditTail recoveredTail = new AuditTail(Math.max(tailSize, 1));
+        try {
+            AuditSegmentStore segmentStore = new AuditSegmentStore(Paths.get(auditDirectory),
+                    Math.max(segmentSizeMb * 1024 * 1024, MIN_SEGMENT_BYTES), TimeUnit.DAYS.toMillis(retentionDays));
+            segmentStore.recover(tailSize).forEach(recoveredTail::add);
+
+            synchronized (appendLock) {
+                auditLog = recoveredTail;
+                store = segmentStore;
+            }
+            maintenanceScheduler.scheduleWithFixedDelay(this::forceSegments,
+                    forceIntervalMs, forceIntervalMs, TimeUnit.MILLISECONDS);
+            maintenanceScheduler.scheduleWithFixedDelay(this::deleteExpiredSegments, 1, 60, TimeUnit.MINUTES);
+
+            loggingService.logSystemEvent("AUDIT_LOG_RECOVERED", String.format(
+                    "Recovered %d recent audit entries from %d segments in %d ms",
+                    recoveredTail.size(), segmentStore.getSegmentCount(), System.currentTimeMillis() - startTime));
+        } catch (Exception e) {
+            // Auditing keeps working in memory; entries stay unpersisted until the store opens
+            loggingService.critical("Failed to open audit log in " + auditDirectory, e);
+            synchronized (appendLock) {
+                auditLog = recoveredTail;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void closeStore() {
+        maintenanceScheduler.shutdown();
+        synchronized (appendLock) {
+            if (store != null) {
+                try {
+                    store.close();
+                } catch (Exception e) {
+                    loggingService.error("Failed to close audit log", e);
+                }
+                store = null;
+            }
+        }
+    }
 
     public void logUserAction(String userId, String action, String details) {
         AuditEntry entry = new AuditEntry(
-                generateId(),
+                idGenerator.nextId(),
                 "USER_ACTION",
                 userId,
                 action,
@@ -30,7 +159,7 @@ public class AuditService {
 
     public void logSystemEvent(String eventType, String description) {
         AuditEntry entry = new AuditEntry(
-                generateId(),
+                idGenerator.nextId(),
                 "SYSTEM_EVENT",
                 "SYSTEM",
                 eventType,
@@ -43,7 +172,7 @@ public class AuditService {
     public void logAuthenticationEvent(String userId, String action, boolean success) {
         String details = success ? "SUCCESS" : "FAILED";
         AuditEntry entry = new AuditEntry(
-                generateId(),
+                idGenerator.nextId(),
                 "AUTHENTICATION",
                 userId,
                 action,
@@ -56,7 +185,7 @@ public class AuditService {
     public void logJobPostAction(String userId, String jobId, String action) {
         String details = "Job ID: " + jobId;
         AuditEntry entry = new AuditEntry(
-                generateId(),
+                idGenerator.nextId(),
                 "JOB_POST",
                 userId,
                 action,
@@ -69,7 +198,7 @@ public class AuditService {
     public void logApplicationAction(String userId, String applicationId, String action) {
         String details = "Application ID: " + applicationId;
         AuditEntry entry = new AuditEntry(
-                generateId(),
+                idGenerator.nextId(),
                 "APPLICATION",
                 userId,
                 action,
@@ -82,7 +211,7 @@ public class AuditService {
     public void logPaymentAction(String userId, String paymentId, String action, String amount) {
         String details = "Payment ID: " + paymentId + ", Amount: " + amount;
         AuditEntry entry = new AuditEntry(
-                generateId(),
+                idGenerator.nextId(),
                 "PAYMENT",
                 userId,
                 action,
@@ -93,77 +222,163 @@ public class AuditService {
     }
 
     public List<AuditEntry> getRecentAuditLogs(int limit) {
-        List<AuditEntry> logs = new ArrayList<>(auditLog);
-
-        // Sort by timestamp (newest first)
-        logs.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
+        synchronized (appendLock) {
+            if (limit <= auditLog.size() || store == null) {
+                return auditLog.newestFirst(entry -> true, limit);
+            }
+        }
+        return getAuditLogs(null, null, limit);
+    }
 
-        // Return limited results
-        return logs.stream().limit(limit).collect(Collectors.toList());
+    // Entries between the two times, either of which may be null for an open end, newest first
+    public List<AuditEntry> getAuditLogs(LocalDateTime from, LocalDateTime to, int limit) {
+        return query(null, null, from, to, limit);
     }
 
     public List<AuditEntry> getAuditLogsByType(String type) {
-        return auditLog.stream()
-                .filter(entry -> entry.getType().equals(type))
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .collect(Collectors.toList());
+        return getAuditLogsByType(type, null, null, tailSize);
+    }
+
+    public List<AuditEntry> getAuditLogsByType(String type, LocalDateTime from, LocalDateTime to, int limit) {
+        return query(null, type, from, to, limit);
     }
 
     public List<AuditEntry> getAuditLogsByUser(String userId) {
-        return auditLog.stream()
-                .filter(entry -> entry.getUserId().equals(userId))
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .collect(Collectors.toList());
+        return getAuditLogsByUser(userId, null, null, tailSize);
+    }
+
+    public List<AuditEntry> getAuditLogsByUser(String userId, LocalDateTime from, LocalDateTime to, int limit) {
+        return query(userId, null, from, to, limit);
     }
 
+    // Counts cover every retained entry, kept as entries are appended and segments expire
     public Map<String, Long> getAuditStatistics() {
-        Map<String, Long> stats = new HashMap<>();
+        Map<String, Long> counts;
+        long total;
+        synchronized (appendLock) {
+            if (store != null) {
+                counts = store.getTypeCounts();
+                total = store.getTotalCount();
+            } else {
+                counts = new HashMap<>();
+                auditLog.newestFirst(entry -> true, Integer.MAX_VALUE)
+                        .forEach(entry -> counts.merge(entry.getType(), 1L, Long::sum));
+                total = auditLog.size();
+            }
+        }
 
-        stats.put("totalEntries", (long) auditLog.size());
-        stats.put("userActions", auditLog.stream().filter(e -> e.getType().equals("USER_ACTION")).count());
-        stats.put("systemEvents", auditLog.stream().filter(e -> e.getType().equals("SYSTEM_EVENT")).count());
-        stats.put("authEvents", auditLog.stream().filter(e -> e.getType().equals("AUTHENTICATION")).count());
-        stats.put("jobPostEvents", auditLog.stream().filter(e -> e.getType().equals("JOB_POST")).count());
-        stats.put("applicationEvents", auditLog.stream().filter(e -> e.getType().equals("APPLICATION")).count());
-        stats.put("paymentEvents", auditLog.stream().filter(e -> e.getType().equals("PAYMENT")).count());
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("totalEntries", total);
+        stats.put("userActions", counts.getOrDefault("USER_ACTION", 0L));
+        stats.put("systemEvents", counts.getOrDefault("SYSTEM_EVENT", 0L));
+        stats.put("authEvents", counts.getOrDefault("AUTHENTICATION", 0L));
+        stats.put("jobPostEvents", counts.getOrDefault("JOB_POST", 0L));
+        stats.put("applicationEvents", counts.getOrDefault("APPLICATION", 0L));
+        stats.put("paymentEvents", counts.getOrDefault("PAYMENT", 0L));
 
         return stats;
     }
 
     private void addAuditEntry(AuditEntry entry) {
-        auditLog.offer(entry);
+        synchronized (appendLock) {
+            if (store != null) {
+                try {
+                    store.append(entry);
+                } catch (Exception e) {
+                    loggingService.critical("Failed to persist audit entry " + entry.getId(), e);
+                }
+            }
+            auditLog.add(entry);
+        }
+    }
+
+    private List<AuditEntry> query(String userId, String type, LocalDateTime from, LocalDateTime to, int limit) {
+        long fromMillis = from != null ? from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = to != null ? to.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MAX_VALUE;
+        AuditSegmentStore segmentStore;
+        synchronized (appendLock) {
+            segmentStore = store;
+        }
+        if (segmentStore != null) {
+            try {
+                return segmentStore.query(userId, type, fromMillis, toMillis, limit);
+            } catch (Exception e) {
+                loggingService.error("Audit query failed, answering from recent entries", e);
+            }
+        }
+        synchronized (appendLock) {
+            // Without the store only the recent entries are known
+            return auditLog.newestFirst(entry ->
+                    (userId == null || userId.equals(entry.getUserId()))
+                            && (type == null || type.equals(entry.getType()))
+                            && (from == null || !entry.getTimestamp().isBefore(from))
+                            && (to == null || !entry.getTimestamp().isAfter(to)), limit);
+        }
+    }
 
-        // Maintain max size
-        while (auditLog.size() > MAX_LOG_SIZE) {
-            auditLog.poll();
+    // A task that throws is never run again, so failures are logged and the next run retries
+    private void forceSegments() {
+        try {
+            AuditSegmentStore segmentStore;
+            synchronized (appendLock) {
+                segmentStore = store;
+            }
+            if (segmentStore != null) {
+                segmentStore.force();
+            }
+        } catch (Exception e) {
+            loggingService.error("Failed to flush audit log to disk", e);
         }
     }
 
-    private String generateId() {
-        return "AUDIT_" + System.currentTimeMillis() + "_" + Thread.currentThread().getId();
+    private void deleteExpiredSegments() {
+        try {
+            AuditSegmentStore segmentStore;
+            synchronized (appendLock) {
+                segmentStore = store;
+            }
+            if (segmentStore != null) {
+                int deleted = segmentStore.deleteExpiredSegments();
+                if (deleted > 0) {
+                    loggingService.logSystemEvent("AUDIT_SEGMENTS_EXPIRED", "Deleted " + deleted + " audit segments");
+                }
+            }
+        } catch (Exception e) {
+            loggingService.error("Failed to apply audit retention", e);
+        }
     }
 
     // Inner class for audit entries
     public static class AuditEntry {
 
-        private final String id;
+        private final long id;
         private final String type;
         private final String userId;
         private final String action;
         private final String details;
         private final LocalDateTime timestamp;
+        private final String correlationId;
+
+        // Stamped with the correlation id of the request being served, if any
+        public AuditEntry(long id, String type, String userId, String action, String details, LocalDateTime timestamp) {
+            this(id, type, userId, action, details, timestamp, RequestContext.currentCorrelationId());
+        }
 
-        public AuditEntry(String id, String type, String userId, String action, String details, LocalDateTime timestamp) {
+        public AuditEntry(long id, String type, String userId, String action, String details, LocalDateTime timestamp,
+                          String correlationId) {
             this.id = id;
             this.type = type;
             this.userId = userId;
             this.action = action;
             this.details = details;
             this.timestamp = timestamp;
+            this.correlationId = correlationId;
         }
 
         // Getters
-        public String getId() {
+        // Rendered as a string in JSON; JavaScript numbers can't hold every 64-bit id
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public long getId() {
             return id;
         }
 
@@ -186,5 +401,9 @@ public class AuditService {
         public LocalDateTime getTimestamp() {
             return timestamp;
         }
+
+        public String getCorrelationId() {
+            return correlationId;
+        }
     }
 }
@@ -11,6 +11,7 @@ import com.example.job_platform.Entity.User;
 import com.example.job_platform.Entity.Recruiter;
 import com.example.job_platform.Entity.Student;
 import com.example.job_platform.Enum.Role;
+import com.example.job_platform.Exception.UnauthorizedException;
 import com.example.job_platform.Repository.UserRepository;
 import com.example.job_platform.Repository.RecruiterRepository;
 import com.example.job_platform.Repository.StudentRepository;
@@ -19,6 +20,8 @@ import com.example.job_platform.Security.JwtUtil;
 @Service
 public class AuthService {
 
+    private static final String INVALID_CREDENTIALS = "Invalid email or password";
+
     @Autowired
     private UserRepository userRepository;
     @Autowired
@@ -62,10 +65,12 @@ public class AuthService {
 
     public AuthResponse login(LoginRequest request) {
 
-        User user = userRepository.findByEmail(request.email).orElseThrow(() -> new RuntimeException("User not found"));
+        // The same 401 for an unknown email and a wrong password, so neither reveals which accounts exist
+        User user = userRepository.findByEmail(request.email)
+                .orElseThrow(() -> new UnauthorizedException("log in", "user not found", INVALID_CREDENTIALS));
 
         if (!passwordEncoder.matches(request.password, user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
+            throw new UnauthorizedException("log in", "invalid credentials", INVALID_CREDENTIALS);
         }
 
         String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
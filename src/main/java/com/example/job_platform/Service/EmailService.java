@@ -1,11 +1,26 @@
 package com.example.job_platform.Service;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import com.example.job_platform.DTO.EmailRequest;
+import com.example.job_platform.Security.RequestContext;
 
 @Service
 public class EmailService {
@@ -13,12 +28,144 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Value("${app.mail.pool-size:4}")
+    private int poolSize;
+
+    @Value("${app.mail.messages-per-connection:50}")
+    private int messagesPerConnection;
+
+    @Value("${app.mail.rate-per-second:10}")
+    private double ratePerSecond;
+
+    private ExecutorService mailExecutor;
+    private TokenBucket rateLimiter;
+
+    /**
+     * Token bucket shared by all senders. Callers may take more tokens than are
+     * available; the debt is paid off by making the following callers wait, so a
+     * whole connection's worth of messages can be reserved in one call.
+     */
+    static final class TokenBucket {
+
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double ratePerSecond, double capacity) {
+            this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        // Takes the permits and returns how long the caller must wait before using them
+        synchronized long reserve(int permits) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+
+            tokens -= permits;
+            return tokens >= 0 ? 0 : (long) (-tokens / tokensPerNano);
+        }
+
+        void acquire(int permits) throws InterruptedException {
+            long waitNanos = reserve(permits);
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        mailExecutor = RequestContext.propagating(Executors.newFixedThreadPool(poolSize));
+        rateLimiter = new TokenBucket(ratePerSecond, Math.max(ratePerSecond, 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        mailExecutor.shutdown();
+    }
+
     public void sendEmail(EmailRequest request) {
+        try {
+            rateLimiter.acquire(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for the mail rate limit");
+        }
+        mailSender.send(toMailMessage(request));
+    }
+
+    /**
+     * Sends the messages in groups of {@code messagesPerConnection}, each group over one
+     * SMTP connection, with up to {@code poolSize} connections in parallel. Returns the
+     * messages that failed, keyed by request instance; an empty map means all were sent.
+     */
+    public Map<EmailRequest, Exception> sendBatch(List<EmailRequest> requests) {
+        Map<EmailRequest, Exception> failures = new IdentityHashMap<>();
+        List<Future<Map<EmailRequest, Exception>>> connections = new ArrayList<>();
+
+        for (int from = 0; from < requests.size(); from += messagesPerConnection) {
+            List<EmailRequest> group = requests.subList(from, Math.min(from + messagesPerConnection, requests.size()));
+            connections.add(mailExecutor.submit(() -> sendOverOneConnection(group)));
+        }
+
+        for (int i = 0; i < connections.size(); i++) {
+            try {
+                failures.putAll(connections.get(i).get());
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                int from = i * messagesPerConnection;
+                for (EmailRequest request : requests.subList(from, Math.min(from + messagesPerConnection, requests.size()))) {
+                    failures.put(request, e);
+                }
+            }
+        }
+
+        return failures;
+    }
+
+    // JavaMailSender opens a single transport for all messages passed in one call
+    private Map<EmailRequest, Exception> sendOverOneConnection(List<EmailRequest> group) throws InterruptedException {
+        rateLimiter.acquire(group.size());
+
+        Map<SimpleMailMessage, EmailRequest> requestsByMessage = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[group.size()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = toMailMessage(group.get(i));
+            requestsByMessage.put(messages[i], group.get(i));
+        }
+
+        Map<EmailRequest, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            // Failed messages are keyed by the SimpleMailMessage that was passed in
+            for (Map.Entry<Object, Exception> failed : e.getFailedMessages().entrySet()) {
+                EmailRequest request = requestsByMessage.get(failed.getKey());
+                if (request != null) {
+                    failures.put(request, failed.getValue());
+                }
+            }
+            if (failures.isEmpty()) {
+                group.forEach(request -> failures.put(request, e));
+            }
+        } catch (Exception e) {
+            // Connection or authentication failure: nothing in the group went out
+            group.forEach(request -> failures.put(request, e));
+        }
+        return failures;
+    }
+
+    private SimpleMailMessage toMailMessage(EmailRequest request) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(request.getTo());
         message.setSubject(request.getSubject());
         message.setText(request.getBody());
-
-        mailSender.send(message);
+        return message;
     }
 }
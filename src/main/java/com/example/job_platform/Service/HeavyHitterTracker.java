@@ -0,0 +1,218 @@
+package com.example.job_platform.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.job_platform.Security.KeyHash;
+
+/**
+ * Approximate per-key counts over a decaying time window, in memory fixed at
+ * construction however many distinct keys arrive. Counts go into a Count-Min sketch,
+ * which can overestimate but never underestimates; alongside it the {@code topK} keys
+ * with the largest estimates are tracked Space-Saving style, a newcomer replacing the
+ * smallest tracked key once its estimate passes it. Time is split into windows: a
+ * key's count is its current-window count plus the previous window's, weighted by how
+ * much of that window still overlaps the last {@code windowMillis}.
+ */
+final class HeavyHitterTracker {
+
+    private static final int DEPTH = 4;
+
+    private final int mask;
+    private final int topK;
+    private final long windowMillis;
+    private final long seed = KeyHash.newSeed();
+
+    private Window current;
+    private Window previous;
+    private long windowStart;
+
+    private final class Window {
+
+        private final int[][] counts;
+        private final String[] keys = new String[topK];
+        private final long[] keyHashes = new long[topK];
+        private final long[] keyCounts = new long[topK];
+        private final Map<String, Integer> slots = new HashMap<>();
+        private int size;
+        private int minSlot;
+
+        Window(int width) {
+            counts = new int[DEPTH][width];
+        }
+
+        // Adds one and returns the new estimate
+        long add(long hash) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                int[] counters = counts[row];
+                int column = column(hash, row);
+                if (counters[column] < Integer.MAX_VALUE) {
+                    counters[column]++;
+                }
+                estimate = Math.min(estimate, counters[column]);
+            }
+            return estimate;
+        }
+
+        long estimate(long hash) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                estimate = Math.min(estimate, counts[row][column(hash, row)]);
+            }
+            return estimate;
+        }
+
+        // A tracked key's count as of its last add, else the sketch's estimate
+        long countOf(String key, long hash) {
+            Integer slot = slots.get(key);
+            return slot != null ? keyCounts[slot] : estimate(hash);
+        }
+
+        void track(String key, long hash, long estimate) {
+            Integer slot = slots.get(key);
+            if (slot != null) {
+                keyCounts[slot] = estimate;
+                if (slot == minSlot) {
+                    findMinimum();
+                }
+            } else if (size < topK) {
+                place(size, key, hash, estimate);
+                size++;
+                findMinimum();
+            } else if (estimate > keyCounts[minSlot]) {
+                slots.remove(keys[minSlot]);
+                place(minSlot, key, hash, estimate);
+                findMinimum();
+            }
+        }
+
+        private void place(int slot, String key, long hash, long estimate) {
+            keys[slot] = key;
+            keyHashes[slot] = hash;
+            keyCounts[slot] = estimate;
+            slots.put(key, slot);
+        }
+
+        void clear() {
+            for (int[] counters : counts) {
+                Arrays.fill(counters, 0);
+            }
+            Arrays.fill(keys, null);
+            slots.clear();
+            size = 0;
+            minSlot = 0;
+        }
+
+        private void findMinimum() {
+            minSlot = 0;
+            for (int i = 1; i < size; i++) {
+                if (keyCounts[i] < keyCounts[minSlot]) {
+                    minSlot = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param width        counters per sketch row, rounded up to a power of two
+     * @param topK         keys tracked as heavy hitters
+     * @param windowMillis length of each counting window
+     */
+    HeavyHitterTracker(int width, int topK, long windowMillis) {
+        int size = Integer.highestOneBit(Math.max(width, 2) - 1) << 1;
+        this.mask = size - 1;
+        this.topK = Math.max(topK, 1);
+        this.windowMillis = windowMillis;
+        this.current = new Window(size);
+        this.previous = new Window(size);
+        this.windowStart = System.currentTimeMillis();
+    }
+
+    synchronized void add(String key) {
+        rotate(System.currentTimeMillis());
+        long hash = hash(key);
+        current.track(key, hash, current.add(hash));
+    }
+
+    synchronized long estimate(String key) {
+        long now = System.currentTimeMillis();
+        rotate(now);
+        long hash = hash(key);
+        return current.estimate(hash) + Math.round(previous.estimate(hash) * previousWeight(now));
+    }
+
+    // The heaviest keys tracked in either window, by decayed estimate, largest first
+    synchronized Map<String, Long> top(int limit) {
+        long now = System.currentTimeMillis();
+        rotate(now);
+        double weight = previousWeight(now);
+
+        Map<String, Long> estimates = new HashMap<>();
+        for (Window window : new Window[] {current, previous}) {
+            for (int i = 0; i < window.size; i++) {
+                String key = window.keys[i];
+                long hash = window.keyHashes[i];
+                if (!estimates.containsKey(key)) {
+                    estimates.put(key, current.countOf(key, hash) + Math.round(previous.countOf(key, hash) * weight));
+                }
+            }
+        }
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(estimates.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            top.put(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+        return top;
+    }
+
+    // How many tracked keys are above the threshold; only keys that large can be tracked
+    synchronized int countAbove(long threshold) {
+        int count = 0;
+        for (long estimate : top(2 * topK).values()) {
+            if (estimate > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void rotate(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed < windowMillis) {
+            return;
+        }
+        // The previous window's arrays are reused for the new current one
+        Window expired = previous;
+        expired.clear();
+        if (elapsed < 2 * windowMillis) {
+            previous = current;
+            current = expired;
+            windowStart += windowMillis;
+        } else {
+            // Idle for over a whole window, so nothing counted is recent any more
+            current.clear();
+            windowStart = now;
+        }
+    }
+
+    private double previousWeight(long now) {
+        return Math.max(0, 1 - (double) (now - windowStart) / windowMillis);
+    }
+
+    // Double hashing gives each row its own column from one 64-bit hash
+    private int column(long hash, int row) {
+        return (int) ((hash >>> 32) + row * (hash & 0xffffffffL)) & mask;
+    }
+
+    // Odd, so the second half of the double hash never steps by zero
+    private long hash(String key) {
+        return KeyHash.of(key, seed) | 1;
+    }
+}
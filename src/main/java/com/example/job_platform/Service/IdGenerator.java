@@ -0,0 +1,101 @@
+package com.example.job_platform.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 64-bit ids for audit entries, security events and bulk jobs: 41 bits of milliseconds
+ * since {@link #EPOCH_MILLIS}, 10 bits of node id and a 12-bit sequence within the
+ * millisecond. Ids from one node are strictly increasing, and ids from nodes with
+ * different configured node ids never collide, so they sort by time across pods.
+ * Generating one is a CAS on a single long; no locks or allocation.
+ */
+@Service
+public class IdGenerator {
+
+    // 2024-01-01T00:00:00Z; 41 bits of milliseconds from here last until 2093
+    static final long EPOCH_MILLIS = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    // How far ids may run ahead of the clock before callers wait for it to catch up
+    private static final long MAX_LEAD = 1000L << SEQUENCE_BITS;
+    // Longest a caller waits; a clock that stepped back further is not waited out
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Autowired
+    private LoggingService loggingService;
+
+    // Must differ between instances sharing audit or event data
+    @Value("${app.ids.node-id:0}")
+    private int nodeId = 0;
+
+    // Milliseconds since the epoch shifted over the sequence, as last handed out
+    private final AtomicLong lastStamp = new AtomicLong();
+    // Set while ids run more than MAX_LEAD ahead and callers have stopped waiting
+    private final AtomicBoolean runningAhead = new AtomicBoolean();
+
+    @PostConstruct
+    public void validateNodeId() {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.ids.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+    }
+
+    public long nextId() {
+        long waitDeadline = 0;
+        while (true) {
+            long previous = lastStamp.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            // Within the same millisecond, or if the clock stepped back, keep counting from the
+            // last stamp; a full sequence carries into the next millisecond rather than waiting,
+            // up to MAX_LEAD ahead
+            long next = now > previous ? now : previous + 1;
+            if (next - now > MAX_LEAD) {
+                if (!runningAhead.get()) {
+                    // Briefly, for a burst to drain; a clock step back would not end in time
+                    long time = System.nanoTime();
+                    if (waitDeadline == 0) {
+                        waitDeadline = time + MAX_WAIT_NANOS;
+                    }
+                    if (time - waitDeadline < 0) {
+                        Thread.yield();
+                        continue;
+                    }
+                    if (runningAhead.compareAndSet(false, true)) {
+                        loggingService.warn(String.format("Clock is %d ms behind the last id; counting on from it",
+                                (next - now) >>> SEQUENCE_BITS));
+                    }
+                }
+            } else if (runningAhead.get() && runningAhead.compareAndSet(true, false)) {
+                loggingService.info("Clock has caught up with generated ids");
+            }
+            if (lastStamp.compareAndSet(previous, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | (long) nodeId << SEQUENCE_BITS
+                        | next & SEQUENCE_MASK;
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    // When the id was generated, to the millisecond
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
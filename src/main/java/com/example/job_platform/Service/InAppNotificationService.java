@@ -0,0 +1,262 @@
+package com.example.job_platform.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.job_platform.Entity.InAppNotification;
+import com.example.job_platform.Repository.InAppNotificationRepository;
+import com.example.job_platform.Security.RequestContext;
+
+/**
+ * Persisted per-user inbox plus live delivery over Server-Sent Events. Publishing
+ * never touches a socket: it offers the entry to each of the user's connection
+ * buffers and a small pool drains them. A client whose buffer fills up is
+ * disconnected and catches up from the inbox when it reconnects with Last-Event-ID.
+ */
+@Service
+public class InAppNotificationService {
+
+    @Autowired
+    private InAppNotificationRepository notificationRepository;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static final int INBOX_CAPACITY = 200;
+    private static final int CONNECTION_BUFFER_SIZE = 64;
+    private static final long STREAM_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_SECONDS = 25;
+    private static final Object HEARTBEAT = new Object();
+
+    private final Map<Long, List<StreamConnection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService pushExecutor = RequestContext.propagating(Executors.newFixedThreadPool(4));
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    // One open event stream; at most one pool thread drains it at a time
+    private static final class StreamConnection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(CONNECTION_BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile Long replayAfter;
+        private volatile boolean closed;
+        // Sent by the replay and not yet seen live; inserts can commit out of id order,
+        // so live entries are only checked against these, never against the last id.
+        // Only the draining thread touches it
+        private final Set<Long> replayedIds = new HashSet<>();
+
+        StreamConnection(Long userId, SseEmitter emitter, Long replayAfter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.replayAfter = replayAfter;
+        }
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        // Keeps proxies from closing idle streams and flushes out dead connections
+        heartbeatScheduler.scheduleWithFixedDelay(() -> {
+            for (List<StreamConnection> userConnections : connections.values()) {
+                for (StreamConnection connection : userConnections) {
+                    offer(connection, HEARTBEAT);
+                }
+            }
+        }, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdown();
+        pushExecutor.shutdown();
+        connections.values().forEach(userConnections -> userConnections.forEach(this::close));
+    }
+
+    public void publish(Long userId, String title, String message) {
+        publishAll(Collections.singletonList(new InAppNotification(userId, title, message)));
+    }
+
+    // Stores the entries in the caller's transaction and pushes them once it commits
+    public void publishAll(List<InAppNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<InAppNotification> saved = notificationRepository.saveAll(notifications);
+            Set<Long> userIds = new LinkedHashSet<>();
+            saved.forEach(notification -> userIds.add(notification.getUserId()));
+            userIds.forEach(this::trimInbox);
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    saved.forEach(InAppNotificationService.this::push);
+                }
+            });
+        });
+    }
+
+    public List<InAppNotification> getInbox(Long userId, int limit) {
+        return notificationRepository.findByUserIdOrderByIdDesc(userId, PageRequest.of(0, Math.min(limit, INBOX_CAPACITY)));
+    }
+
+    public long getUnreadCount(Long userId) {
+        return notificationRepository.countByUserIdAndReadFalse(userId);
+    }
+
+    public int markRead(Long userId, Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        Integer updated = transactionTemplate.execute(status -> notificationRepository.markRead(userId, notificationIds));
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * Opens an event stream for the user. With a last event id the entries stored
+     * after it are replayed first; the first drain runs that query after the
+     * connection is registered, so nothing published in between is missed.
+     */
+    public SseEmitter connect(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        StreamConnection connection = new StreamConnection(userId, emitter, lastEventId);
+
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(error -> close(connection));
+
+        connections.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(connection);
+        if (lastEventId != null) {
+            scheduleDrain(connection);
+        }
+        return emitter;
+    }
+
+    public int getOpenConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void push(InAppNotification notification) {
+        List<StreamConnection> userConnections = connections.get(notification.getUserId());
+        if (userConnections != null) {
+            for (StreamConnection connection : userConnections) {
+                offer(connection, notification);
+            }
+        }
+    }
+
+    private void offer(StreamConnection connection, Object item) {
+        if (connection.closed) {
+            return;
+        }
+        if (!connection.buffer.offer(item)) {
+            // Slow consumer: drop it rather than buffer without bound; it replays on reconnect
+            loggingService.warn("Closing slow notification stream for user " + connection.userId);
+            close(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(StreamConnection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            try {
+                pushExecutor.execute(() -> drain(connection));
+            } catch (Exception e) {
+                connection.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(StreamConnection connection) {
+        try {
+            Long replayAfter = connection.replayAfter;
+            if (replayAfter != null) {
+                connection.replayAfter = null;
+                for (InAppNotification notification : notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                        connection.userId, replayAfter, PageRequest.of(0, INBOX_CAPACITY))) {
+                    send(connection, notification);
+                    connection.replayedIds.add(notification.getId());
+                }
+            }
+
+            Object item;
+            while (!connection.closed && (item = connection.buffer.poll()) != null) {
+                if (item == HEARTBEAT) {
+                    connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (!connection.replayedIds.remove(((InAppNotification) item).getId())) {
+                    send(connection, (InAppNotification) item);
+                }
+            }
+        } catch (Exception e) {
+            close(connection);
+        } finally {
+            connection.draining.set(false);
+            if (!connection.closed && !connection.buffer.isEmpty()) {
+                scheduleDrain(connection);
+            }
+        }
+    }
+
+    private void send(StreamConnection connection, InAppNotification notification) throws Exception {
+        connection.emitter.send(SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name("notification")
+                .data(notification));
+    }
+
+    private void close(StreamConnection connection) {
+        connection.closed = true;
+        unregister(connection);
+        try {
+            connection.emitter.complete();
+        } catch (Exception e) {
+            // Already completed
+        }
+    }
+
+    private void unregister(StreamConnection connection) {
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    // Keeps only the newest INBOX_CAPACITY entries per user
+    private void trimInbox(Long userId) {
+        List<InAppNotification> firstExpired = notificationRepository.findByUserIdOrderByIdDesc(userId,
+                PageRequest.of(INBOX_CAPACITY, 1));
+        if (!firstExpired.isEmpty()) {
+            notificationRepository.deleteUpTo(userId, firstExpired.get(0).getId());
+        }
+    }
+}
@@ -1,22 +1,49 @@
 package com.example.job_platform.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.job_platform.Entity.Application;
+import com.example.job_platform.Entity.Interview;
 import com.example.job_platform.Entity.User;
+import com.example.job_platform.Enum.InterviewStatus;
+import com.example.job_platform.Enum.InterviewType;
 import com.example.job_platform.Exception.BusinessRuleException;
 import com.example.job_platform.Exception.ResourceNotFoundException;
 import com.example.job_platform.Repository.ApplicationRepository;
+import com.example.job_platform.Repository.InterviewRepository;
 import com.example.job_platform.Repository.UserRepository;
+import com.example.job_platform.Service.NotificationService.UpdateType;
 
 @Service
 public class InterviewSchedulingService {
@@ -33,171 +60,388 @@ public class InterviewSchedulingService {
     @Autowired
     private NotificationService notificationService;
 
-    // Track scheduled interviews
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Level-checked logger for the formatted messages below; set up in loadInterviews
+    private LoggingService.LogCategory interviewLog;
+
+    // In-memory indexes over the persisted interviews
+    private final Map<Long, Interview> interviewsById = new ConcurrentHashMap<>();
     private final Map<Long, List<Interview>> applicationInterviews = new ConcurrentHashMap<>();
     private final Map<String, List<Interview>> interviewerSchedules = new ConcurrentHashMap<>();
-    private Long interviewIdCounter = 1L;
+    private final Map<String, InterviewerCalendar> interviewerCalendars = new ConcurrentHashMap<>();
+
+    private static final int SLOT_STEP_MINUTES = 30;
+
+    // Reminders go out 24 hours and 1 hour before each interview
+    private static final long[] REMINDER_OFFSETS_MINUTES = {24 * 60, 60};
+    private static final long REMINDER_TICK_MILLIS = 60_000;
+    private static final int REMINDER_WHEEL_SIZE = 1024;
+
+    private final ReminderWheel reminderWheel = new ReminderWheel(REMINDER_TICK_MILLIS, REMINDER_WHEEL_SIZE,
+            System.currentTimeMillis(), this::sendReminder);
+    private final Map<Long, List<Reminder>> remindersByInterview = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reminderTicker = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * Busy intervals of one interviewer, keyed by start time. Booked interviews never
+     * overlap, so the entry starting closest before a candidate's end is the only one
+     * that can conflict with it. Intervals are closed: back-to-back bookings conflict.
+     */
+    static final class InterviewerCalendar {
+
+        private final TreeMap<LocalDateTime, Interview> busy = new TreeMap<>();
+
+        synchronized boolean hasConflict(LocalDateTime startTime, LocalDateTime endTime, Long excludeInterviewId) {
+            Map.Entry<LocalDateTime, Interview> entry = busy.floorEntry(endTime);
+            if (entry != null && excludeInterviewId != null && excludeInterviewId.equals(entry.getValue().getId())) {
+                entry = busy.lowerEntry(entry.getKey());
+            }
+            return entry != null && !entry.getValue().getEndTime().isBefore(startTime);
+        }
+
+        synchronized void add(Interview interview) {
+            busy.put(interview.getScheduledTime(), interview);
+        }
+
+        synchronized void remove(Interview interview) {
+            busy.remove(interview.getScheduledTime(), interview);
+        }
+
+        // Active interviews starting after the given time, in start order
+        synchronized List<Interview> startingAfter(LocalDateTime time) {
+            return new ArrayList<>(busy.tailMap(time, false).values());
+        }
 
-    public enum InterviewType {
-        PHONE_SCREENING,
-        TECHNICAL_INTERVIEW,
-        HR_INTERVIEW,
-        PANEL_INTERVIEW,
-        FINAL_INTERVIEW
+        // Busy intervals touching [from, to], in start order
+        synchronized List<TimeSlot> busyBetween(LocalDateTime from, LocalDateTime to) {
+            LocalDateTime firstKey = busy.floorKey(from);
+            List<TimeSlot> intervals = new ArrayList<>();
+            for (Interview interview : busy.subMap(firstKey != null ? firstKey : from, true, to, true).values()) {
+                intervals.add(new TimeSlot(interview.getScheduledTime(), interview.getEndTime()));
+            }
+            return intervals;
+        }
+    }
+
+    static final class Reminder {
+
+        private final Interview interview;
+        private final LocalDateTime scheduledFor;
+        private final long offsetMinutes;
+        private final long deadlineMillis;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+
+        Reminder(Interview interview, long offsetMinutes) {
+            this.interview = interview;
+            this.scheduledFor = interview.getScheduledTime();
+            this.offsetMinutes = offsetMinutes;
+            this.deadlineMillis = scheduledFor.minusMinutes(offsetMinutes)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
     }
 
-    public enum InterviewStatus {
-        SCHEDULED,
-        CONFIRMED,
-        IN_PROGRESS,
-        COMPLETED,
-        CANCELLED,
-        RESCHEDULED,
-        NO_SHOW
+    /**
+     * Hashed timing wheel. Each bucket holds the reminders due on ticks congruent to its
+     * index; a reminder further out than one rotation carries the number of rotations it
+     * still has to wait. A tick only visits its own bucket, and cancellation just flags
+     * the reminder so the tick drops it. Buckets are touched by the ticker thread only;
+     * other threads hand reminders over through the pending queue.
+     */
+    static final class ReminderWheel {
+
+        private final long tickMillis;
+        private final long startMillis;
+        private final ArrayDeque<Reminder>[] buckets;
+        private final int mask;
+        private final Queue<Reminder> pending = new ConcurrentLinkedQueue<>();
+        private final Consumer<Reminder> onExpire;
+        private long currentTick;
+
+        @SuppressWarnings("unchecked")
+        ReminderWheel(long tickMillis, int wheelSize, long startMillis, Consumer<Reminder> onExpire) {
+            this.tickMillis = tickMillis;
+            this.startMillis = startMillis;
+            this.buckets = new ArrayDeque[wheelSize];
+            this.mask = wheelSize - 1;
+            this.onExpire = onExpire;
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+        }
+
+        void schedule(Reminder reminder) {
+            pending.add(reminder);
+        }
+
+        // Processes every tick up to the given time; runs on the ticker thread
+        void advanceTo(long nowMillis) {
+            long targetTick = (nowMillis - startMillis) / tickMillis;
+            while (currentTick <= targetTick) {
+                transferPending();
+
+                Iterator<Reminder> bucket = buckets[(int) (currentTick & mask)].iterator();
+                while (bucket.hasNext()) {
+                    Reminder reminder = bucket.next();
+                    if (reminder.cancelled) {
+                        bucket.remove();
+                    } else if (reminder.remainingRounds <= 0) {
+                        bucket.remove();
+                        onExpire.accept(reminder);
+                    } else {
+                        reminder.remainingRounds--;
+                    }
+                }
+                currentTick++;
+            }
+        }
+
+        private void transferPending() {
+            Reminder reminder;
+            while ((reminder = pending.poll()) != null) {
+                if (reminder.cancelled) {
+                    continue;
+                }
+                long dueTick = Math.max((reminder.deadlineMillis - startMillis) / tickMillis, currentTick);
+                reminder.remainingRounds = (dueTick - currentTick) / buckets.length;
+                buckets[(int) (dueTick & mask)].add(reminder);
+            }
+        }
     }
 
-    public static class Interview {
+    public static class TimeSlot {
 
-        private final Long id;
-        private final Long applicationId;
-        private final InterviewType type;
-        private LocalDateTime scheduledTime;
-        private LocalDateTime endTime;
-        private String interviewerEmail;
-        private String interviewerName;
-        private String meetingLink;
-        private String location;
-        private InterviewStatus status;
-        private String notes;
-        private Integer score;
-        private String feedback;
-        private final LocalDateTime createdAt;
-        private LocalDateTime updatedAt;
+        private LocalDateTime start;
+        private LocalDateTime end;
 
-        public Interview(Long id, Long applicationId, InterviewType type, LocalDateTime scheduledTime,
-                LocalDateTime endTime, String interviewerEmail, String interviewerName) {
-            this.id = id;
-            this.applicationId = applicationId;
-            this.type = type;
-            this.scheduledTime = scheduledTime;
-            this.endTime = endTime;
-            this.interviewerEmail = interviewerEmail;
-            this.interviewerName = interviewerName;
-            this.status = InterviewStatus.SCHEDULED;
-            this.createdAt = LocalDateTime.now();
-            this.updatedAt = LocalDateTime.now();
+        public TimeSlot() {
         }
 
-        // Getters and setters
-        public Long getId() {
-            return id;
+        public TimeSlot(LocalDateTime start, LocalDateTime end) {
+            this.start = start;
+            this.end = end;
         }
 
-        public Long getApplicationId() {
-            return applicationId;
+        public LocalDateTime getStart() {
+            return start;
         }
 
-        public InterviewType getType() {
-            return type;
+        public void setStart(LocalDateTime start) {
+            this.start = start;
         }
 
-        public LocalDateTime getScheduledTime() {
-            return scheduledTime;
+        public LocalDateTime getEnd() {
+            return end;
         }
 
-        public void setScheduledTime(LocalDateTime scheduledTime) {
-            this.scheduledTime = scheduledTime;
-            this.updatedAt = LocalDateTime.now();
+        public void setEnd(LocalDateTime end) {
+            this.end = end;
+        }
+    }
+
+    public static class InterviewerAvailability {
+
+        private String email;
+        private String name;
+        private List<TimeSlot> availability;
+
+        public InterviewerAvailability() {
         }
 
-        public LocalDateTime getEndTime() {
-            return endTime;
+        public String getEmail() {
+            return email;
         }
 
-        public void setEndTime(LocalDateTime endTime) {
-            this.endTime = endTime;
-            this.updatedAt = LocalDateTime.now();
+        public void setEmail(String email) {
+            this.email = email;
         }
 
-        public String getInterviewerEmail() {
-            return interviewerEmail;
+        public String getName() {
+            return name;
         }
 
-        public void setInterviewerEmail(String interviewerEmail) {
-            this.interviewerEmail = interviewerEmail;
-            this.updatedAt = LocalDateTime.now();
+        public void setName(String name) {
+            this.name = name;
         }
 
-        public String getInterviewerName() {
-            return interviewerName;
+        public List<TimeSlot> getAvailability() {
+            return availability;
         }
 
-        public void setInterviewerName(String interviewerName) {
-            this.interviewerName = interviewerName;
-            this.updatedAt = LocalDateTime.now();
+        public void setAvailability(List<TimeSlot> availability) {
+            this.availability = availability;
         }
+    }
+
+    public static class BulkScheduleReport {
+
+        private final List<Interview> scheduled = new ArrayList<>();
+        private final Map<Long, String> unplaced = new LinkedHashMap<>();
+        private final Map<String, Integer> interviewerLoad = new LinkedHashMap<>();
 
-        public String getMeetingLink() {
-            return meetingLink;
+        public List<Interview> getScheduled() {
+            return scheduled;
         }
 
-        public void setMeetingLink(String meetingLink) {
-            this.meetingLink = meetingLink;
-            this.updatedAt = LocalDateTime.now();
+        public Map<Long, String> getUnplaced() {
+            return unplaced;
         }
 
-        public String getLocation() {
-            return location;
+        public Map<String, Integer> getInterviewerLoad() {
+            return interviewerLoad;
         }
+    }
+
+    // Interviewer in the bulk assignment pool, ordered by how many interviews it already got
+    private static final class PoolEntry {
 
-        public void setLocation(String location) {
-            this.location = location;
-            this.updatedAt = LocalDateTime.now();
+        private final InterviewerAvailability interviewer;
+        private final List<TimeSlot> windows;
+        private int load;
+
+        PoolEntry(InterviewerAvailability interviewer) {
+            this.interviewer = interviewer;
+            this.windows = new ArrayList<>(interviewer.getAvailability());
+            this.windows.sort(Comparator.comparing(TimeSlot::getStart));
         }
+    }
 
-        public InterviewStatus getStatus() {
-            return status;
+    /**
+     * K-way merge of interval lists that are each sorted by start time. The output is
+     * sorted by start but may still overlap; the slot sweep tolerates that.
+     */
+    private static final class MergedIntervals implements Iterator<TimeSlot> {
+
+        private final List<List<TimeSlot>> sources;
+        private final int[] positions;
+        private final PriorityQueue<Integer> heads;
+
+        MergedIntervals(List<List<TimeSlot>> sources) {
+            this.sources = sources;
+            this.positions = new int[sources.size()];
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                    Comparator.comparing((Integer source) -> sources.get(source).get(positions[source]).getStart()));
+            for (int source = 0; source < sources.size(); source++) {
+                if (!sources.get(source).isEmpty()) {
+                    heads.add(source);
+                }
+            }
         }
 
-        public void setStatus(InterviewStatus status) {
-            this.status = status;
-            this.updatedAt = LocalDateTime.now();
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
         }
 
-        public String getNotes() {
-            return notes;
+        @Override
+        public TimeSlot next() {
+            int source = heads.poll();
+            TimeSlot interval = sources.get(source).get(positions[source]++);
+            if (positions[source] < sources.get(source).size()) {
+                heads.add(source);
+            }
+            return interval;
         }
+    }
+
+    private InterviewerCalendar getCalendar(String interviewerEmail) {
+        return interviewerCalendars.computeIfAbsent(interviewerEmail, k -> new InterviewerCalendar());
+    }
 
-        public void setNotes(String notes) {
-            this.notes = notes;
-            this.updatedAt = LocalDateTime.now();
+    @PostConstruct
+    public void loadInterviews() {
+        interviewLog = loggingService.category("interview");
+
+        for (Interview interview : interviewRepository.findAll()) {
+            indexInterview(interview);
+            if (interview.getStatus() != InterviewStatus.CANCELLED) {
+                getCalendar(interview.getInterviewerEmail()).add(interview);
+                scheduleReminders(interview);
+            }
         }
+        interviewLog.logSystemEvent("INTERVIEWS_LOADED", () -> "Loaded " + interviewsById.size() + " interviews");
 
-        public Integer getScore() {
-            return score;
+        reminderTicker.scheduleAtFixedRate(this::advanceReminderWheel,
+                REMINDER_TICK_MILLIS, REMINDER_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reminderTicker.shutdown();
+    }
+
+    private void advanceReminderWheel() {
+        try {
+            reminderWheel.advanceTo(System.currentTimeMillis());
+        } catch (Exception e) {
+            // Keep the ticker alive; a thrown exception would cancel the schedule
+            loggingService.error("Failed to advance interview reminder wheel", e);
         }
+    }
 
-        public void setScore(Integer score) {
-            this.score = score;
-            this.updatedAt = LocalDateTime.now();
+    private void scheduleReminders(Interview interview) {
+        if (!isReminderStatus(interview.getStatus())) {
+            return;
         }
 
-        public String getFeedback() {
-            return feedback;
+        LocalDateTime now = LocalDateTime.now();
+        List<Reminder> reminders = new CopyOnWriteArrayList<>();
+        for (long offsetMinutes : REMINDER_OFFSETS_MINUTES) {
+            if (interview.getScheduledTime().minusMinutes(offsetMinutes).isAfter(now)) {
+                Reminder reminder = new Reminder(interview, offsetMinutes);
+                reminders.add(reminder);
+                reminderWheel.schedule(reminder);
+            }
         }
 
-        public void setFeedback(String feedback) {
-            this.feedback = feedback;
-            this.updatedAt = LocalDateTime.now();
+        if (!reminders.isEmpty()) {
+            remindersByInterview.put(interview.getId(), reminders);
         }
+    }
 
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
+    private void cancelReminders(Interview interview) {
+        List<Reminder> reminders = remindersByInterview.remove(interview.getId());
+        if (reminders != null) {
+            for (Reminder reminder : reminders) {
+                reminder.cancelled = true;
+            }
         }
+    }
+
+    private void sendReminder(Reminder reminder) {
+        Interview interview = reminder.interview;
+        remindersByInterview.computeIfPresent(interview.getId(), (id, reminders) -> {
+            reminders.remove(reminder);
+            return reminders.isEmpty() ? null : reminders;
+        });
 
-        public LocalDateTime getUpdatedAt() {
-            return updatedAt;
+        // Guard against a reschedule that raced with the cancellation
+        if (!isReminderStatus(interview.getStatus()) || !reminder.scheduledFor.equals(interview.getScheduledTime())) {
+            return;
         }
+
+        String message = String.format("Reminder: your %s interview with %s starts in %s, on %s",
+                interview.getType().toString().replace("_", " "),
+                interview.getInterviewerName(),
+                reminder.offsetMinutes >= 60 ? (reminder.offsetMinutes / 60) + " hour(s)" : reminder.offsetMinutes + " minutes",
+                interview.getScheduledTime().format(DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm")));
+        notificationService.queueApplicationStatusUpdate(interview.getApplicationId(), message, UpdateType.URGENT);
+    }
+
+    private boolean isReminderStatus(InterviewStatus status) {
+        return status == InterviewStatus.SCHEDULED || status == InterviewStatus.CONFIRMED
+                || status == InterviewStatus.RESCHEDULED;
+    }
+
+    private void indexInterview(Interview interview) {
+        interviewsById.put(interview.getId(), interview);
+        applicationInterviews.computeIfAbsent(interview.getApplicationId(), k -> new CopyOnWriteArrayList<>()).add(interview);
+        interviewerSchedules.computeIfAbsent(interview.getInterviewerEmail(), k -> new CopyOnWriteArrayList<>()).add(interview);
     }
 
     public Interview scheduleInterview(Long applicationId, InterviewType type, LocalDateTime scheduledTime,
@@ -212,32 +456,38 @@ public class InterviewSchedulingService {
             User interviewer = userRepository.findByEmail(interviewerEmail)
                     .orElseThrow(() -> new ResourceNotFoundException("User", interviewerEmail));
 
-            loggingService.info("Interviewer validated: " + interviewer.getName() + " (" + interviewerEmail + ")");
-
-            // Check for scheduling conflicts
-            if (hasSchedulingConflict(interviewerEmail, scheduledTime, endTime)) {
-                throw new BusinessRuleException("Interviewer has a scheduling conflict at the requested time");
-            }
+            interviewLog.info(() -> "Interviewer validated: " + interviewer.getName() + " (" + interviewerEmail + ")");
 
-            // Create new interview
-            Long interviewId = generateInterviewId();
-            Interview interview = new Interview(interviewId, applicationId, type, scheduledTime,
-                    endTime, interviewerEmail, interviewerName);
-            interview.setLocation(location);
-            interview.setMeetingLink(meetingLink);
+            Interview interview;
+            InterviewerCalendar calendar = getCalendar(interviewerEmail);
+            synchronized (calendar) {
+                // Check for scheduling conflicts
+                if (hasSchedulingConflict(interviewerEmail, scheduledTime, endTime)) {
+                    throw new BusinessRuleException("Interviewer has a scheduling conflict at the requested time");
+                }
 
-            // Store interview
-            applicationInterviews.computeIfAbsent(applicationId, k -> new ArrayList<>()).add(interview);
-            interviewerSchedules.computeIfAbsent(interviewerEmail, k -> new ArrayList<>()).add(interview);
+                // Create and store new interview; the id comes from the database
+                Interview pending = new Interview(applicationId, type, scheduledTime,
+                        endTime, interviewerEmail, interviewerName);
+                pending.setLocation(location);
+                pending.setMeetingLink(meetingLink);
+
+                // The notification goes to the outbox in the same transaction
+                interview = transactionTemplate.execute(status -> {
+                    Interview saved = interviewRepository.save(pending);
+                    sendInterviewNotifications(saved, application);
+                    return saved;
+                });
+                calendar.add(interview);
+            }
+            indexInterview(interview);
+            scheduleReminders(interview);
 
             // Log the scheduling
-            loggingService.logUserAction("SYSTEM", "INTERVIEW_SCHEDULED",
-                    String.format("Interview scheduled - Application: %d, Type: %s, Time: %s",
+            interviewLog.logUserAction("SYSTEM", "INTERVIEW_SCHEDULED",
+                    () -> String.format("Interview scheduled - Application: %d, Type: %s, Time: %s",
                             applicationId, type, scheduledTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
 
-            // Send notifications
-            sendInterviewNotifications(interview, application);
-
             return interview;
 
         } catch (Exception e) {
@@ -246,6 +496,116 @@ public class InterviewSchedulingService {
         }
     }
 
+    /**
+     * Assigns each application the earliest free slot of the least-loaded interviewer,
+     * persists all interviews in one transaction and queues the notifications.
+     */
+    public BulkScheduleReport bulkScheduleInterviews(List<Long> applicationIds, List<InterviewerAvailability> interviewers,
+            InterviewType type, int durationMinutes, String location, String meetingLink) {
+        BulkScheduleReport report = new BulkScheduleReport();
+
+        Set<Long> existingIds = new HashSet<>();
+        for (Application application : applicationRepository.findAllById(applicationIds)) {
+            existingIds.add(application.getId());
+        }
+
+        PriorityQueue<PoolEntry> pool = new PriorityQueue<>(
+                Comparator.comparingInt((PoolEntry entry) -> entry.load)
+                        .thenComparing(entry -> entry.interviewer.getEmail()));
+        for (InterviewerAvailability interviewer : interviewers) {
+            if (interviewer.getAvailability() == null || interviewer.getAvailability().isEmpty()) {
+                continue;
+            }
+            if (!userRepository.findByEmail(interviewer.getEmail()).isPresent()) {
+                loggingService.warn("Skipping unknown interviewer in bulk scheduling: " + interviewer.getEmail());
+                continue;
+            }
+            pool.add(new PoolEntry(interviewer));
+            report.getInterviewerLoad().put(interviewer.getEmail(), 0);
+        }
+
+        // Slots are reserved in the calendars as they are assigned so later picks see them
+        List<Interview> reserved = new ArrayList<>();
+        for (Long applicationId : new LinkedHashSet<>(applicationIds)) {
+            if (!existingIds.contains(applicationId)) {
+                report.getUnplaced().put(applicationId, "Application not found");
+                continue;
+            }
+
+            Interview interview = null;
+            while (interview == null && !pool.isEmpty()) {
+                PoolEntry entry = pool.poll();
+                interview = reserveEarliestSlot(entry, applicationId, type, durationMinutes, location, meetingLink);
+                if (interview != null) {
+                    entry.load++;
+                    pool.add(entry);
+                }
+            }
+
+            if (interview == null) {
+                report.getUnplaced().put(applicationId, "No interviewer availability left");
+                continue;
+            }
+            reserved.add(interview);
+            report.getInterviewerLoad().merge(interview.getInterviewerEmail(), 1, Integer::sum);
+        }
+
+        try {
+            // Interviews and their outbox notifications commit together
+            report.getScheduled().addAll(transactionTemplate.execute(status -> {
+                List<Interview> saved = interviewRepository.saveAll(reserved);
+                Map<Long, String> messages = new HashMap<>();
+                for (Interview interview : saved) {
+                    messages.put(interview.getApplicationId(), "Interview Scheduled: " + buildScheduledMessage(interview));
+                }
+                notificationService.notifyApplicationStatusUpdates(messages, UpdateType.INTERVIEW_UPDATE);
+                return saved;
+            }));
+        } catch (Exception e) {
+            for (Interview interview : reserved) {
+                getCalendar(interview.getInterviewerEmail()).remove(interview);
+            }
+            loggingService.error("Failed to persist bulk interview schedule", e);
+            throw new BusinessRuleException("Failed to schedule interviews: " + e.getMessage());
+        }
+
+        for (Interview interview : report.getScheduled()) {
+            indexInterview(interview);
+            scheduleReminders(interview);
+        }
+
+        interviewLog.logUserAction("SYSTEM", "INTERVIEWS_BULK_SCHEDULED",
+                () -> String.format("Bulk scheduled %d interviews across %d interviewers, %d unplaced",
+                        report.getScheduled().size(), report.getInterviewerLoad().size(), report.getUnplaced().size()));
+
+        return report;
+    }
+
+    private Interview reserveEarliestSlot(PoolEntry entry, Long applicationId, InterviewType type,
+            int durationMinutes, String location, String meetingLink) {
+        InterviewerAvailability interviewer = entry.interviewer;
+        InterviewerCalendar calendar = getCalendar(interviewer.getEmail());
+
+        synchronized (calendar) {
+            for (TimeSlot window : entry.windows) {
+                // Last start that still lets the interview finish inside the window
+                LocalDateTime lastStart = window.getEnd().minusMinutes(durationMinutes).plusSeconds(1);
+                List<TimeSlot> busy = calendar.busyBetween(window.getStart(), window.getEnd());
+                List<TimeSlot> free = sweepFreeSlots(busy.iterator(), window.getStart(), lastStart, durationMinutes, 1);
+
+                if (!free.isEmpty()) {
+                    Interview interview = new Interview(applicationId, type, free.get(0).getStart(),
+                            free.get(0).getEnd(), interviewer.getEmail(), interviewer.getName());
+                    interview.setLocation(location);
+                    interview.setMeetingLink(meetingLink);
+                    calendar.add(interview);
+                    return interview;
+                }
+            }
+        }
+        return null;
+    }
+
     public Interview rescheduleInterview(Long interviewId, LocalDateTime newScheduledTime,
             LocalDateTime newEndTime, String reason) {
         try {
@@ -254,31 +614,54 @@ public class InterviewSchedulingService {
                 throw new ResourceNotFoundException("Interview", interviewId);
             }
 
-            // Check for conflicts with new time
-            if (hasSchedulingConflict(interview.getInterviewerEmail(), newScheduledTime, newEndTime, interviewId)) {
-                throw new BusinessRuleException("Interviewer has a scheduling conflict at the new requested time");
+            LocalDateTime oldTime = interview.getScheduledTime();
+            LocalDateTime oldEndTime = interview.getEndTime();
+            InterviewStatus oldStatus = interview.getStatus();
+            String oldNotes = interview.getNotes();
+            Application application = applicationRepository.findById(interview.getApplicationId()).orElse(null);
+            InterviewerCalendar calendar = getCalendar(interview.getInterviewerEmail());
+            synchronized (calendar) {
+                // Check for conflicts with new time
+                if (hasSchedulingConflict(interview.getInterviewerEmail(), newScheduledTime, newEndTime, interviewId)) {
+                    throw new BusinessRuleException("Interviewer has a scheduling conflict at the new requested time");
+                }
+
+                // Update interview details; the calendar is keyed by start time, so re-insert
+                calendar.remove(interview);
+                interview.setScheduledTime(newScheduledTime);
+                interview.setEndTime(newEndTime);
+                interview.setStatus(InterviewStatus.RESCHEDULED);
+                interview.setNotes(oldNotes + "\nRescheduled from "
+                        + oldTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + " - Reason: " + reason);
+                try {
+                    // One save for the new time and the note, committed with the notifications
+                    transactionTemplate.executeWithoutResult(status -> {
+                        interviewRepository.save(interview);
+                        if (application != null) {
+                            sendRescheduleNotifications(interview, application, reason);
+                        }
+                    });
+                } catch (Exception e) {
+                    interview.setScheduledTime(oldTime);
+                    interview.setEndTime(oldEndTime);
+                    interview.setStatus(oldStatus);
+                    interview.setNotes(oldNotes);
+                    throw e;
+                } finally {
+                    calendar.add(interview);
+                }
             }
 
-            // Update interview details
-            LocalDateTime oldTime = interview.getScheduledTime();
-            interview.setScheduledTime(newScheduledTime);
-            interview.setEndTime(newEndTime);
-            interview.setStatus(InterviewStatus.RESCHEDULED);
-            interview.setNotes(interview.getNotes() + "\nRescheduled from "
-                    + oldTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + " - Reason: " + reason);
+            // Re-slot the reminders for the new time
+            cancelReminders(interview);
+            scheduleReminders(interview);
 
             // Log the rescheduling
-            loggingService.logUserAction("SYSTEM", "INTERVIEW_RESCHEDULED",
-                    String.format("Interview %d rescheduled from %s to %s - Reason: %s",
+            interviewLog.logUserAction("SYSTEM", "INTERVIEW_RESCHEDULED",
+                    () -> String.format("Interview %d rescheduled from %s to %s - Reason: %s",
                             interviewId, oldTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
                             newScheduledTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), reason));
 
-            // Send rescheduling notifications
-            Application application = applicationRepository.findById(interview.getApplicationId()).orElse(null);
-            if (application != null) {
-                sendRescheduleNotifications(interview, application, reason);
-            }
-
             return interview;
 
         } catch (Exception e) {
@@ -294,18 +677,30 @@ public class InterviewSchedulingService {
                 throw new ResourceNotFoundException("Interview", interviewId);
             }
 
+            InterviewStatus oldStatus = interview.getStatus();
+            String oldNotes = interview.getNotes();
+            Application application = applicationRepository.findById(interview.getApplicationId()).orElse(null);
             interview.setStatus(InterviewStatus.CANCELLED);
-            interview.setNotes(interview.getNotes() + "\nCancelled - Reason: " + reason);
+            interview.setNotes(oldNotes + "\nCancelled - Reason: " + reason);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    interviewRepository.save(interview);
+                    if (application != null) {
+                        sendCancellationNotifications(interview, application, reason);
+                    }
+                });
+            } catch (Exception e) {
+                // The calendar still holds this instance, so it must match what is stored
+                interview.setStatus(oldStatus);
+                interview.setNotes(oldNotes);
+                throw e;
+            }
+            getCalendar(interview.getInterviewerEmail()).remove(interview);
+            cancelReminders(interview);
 
             // Log the cancellation
-            loggingService.logUserAction("SYSTEM", "INTERVIEW_CANCELLED",
-                    String.format("Interview %d cancelled - Reason: %s", interviewId, reason));
-
-            // Send cancellation notifications
-            Application application = applicationRepository.findById(interview.getApplicationId()).orElse(null);
-            if (application != null) {
-                sendCancellationNotifications(interview, application, reason);
-            }
+            interviewLog.logUserAction("SYSTEM", "INTERVIEW_CANCELLED",
+                    () -> String.format("Interview %d cancelled - Reason: %s", interviewId, reason));
 
         } catch (Exception e) {
             loggingService.error("Failed to cancel interview", e);
@@ -323,10 +718,12 @@ public class InterviewSchedulingService {
             interview.setStatus(InterviewStatus.COMPLETED);
             interview.setScore(score);
             interview.setFeedback(feedback);
+            interviewRepository.save(interview);
+            cancelReminders(interview);
 
             // Log the completion
-            loggingService.logUserAction("SYSTEM", "INTERVIEW_COMPLETED",
-                    String.format("Interview %d completed - Score: %d", interviewId, score));
+            interviewLog.logUserAction("SYSTEM", "INTERVIEW_COMPLETED",
+                    () -> String.format("Interview %d completed - Score: %d", interviewId, score));
 
             // Update application workflow if this was the final interview
             updateApplicationWorkflowAfterInterview(interview);
@@ -346,14 +743,10 @@ public class InterviewSchedulingService {
     }
 
     public List<Interview> getUpcomingInterviews(String interviewerEmail) {
-        List<Interview> interviews = getInterviewsForInterviewer(interviewerEmail);
-        LocalDateTime now = LocalDateTime.now();
-
-        return interviews.stream()
-                .filter(interview -> interview.getScheduledTime().isAfter(now))
+        // The calendar is already ordered by start time, so no sort is needed
+        return getCalendar(interviewerEmail).startingAfter(LocalDateTime.now()).stream()
                 .filter(interview -> interview.getStatus() == InterviewStatus.SCHEDULED
                 || interview.getStatus() == InterviewStatus.CONFIRMED)
-                .sorted((i1, i2) -> i1.getScheduledTime().compareTo(i2.getScheduledTime()))
                 .collect(java.util.stream.Collectors.toList());
     }
 
@@ -364,12 +757,10 @@ public class InterviewSchedulingService {
         Map<InterviewStatus, Integer> statusCounts = new HashMap<>();
         Map<InterviewType, Integer> typeCounts = new HashMap<>();
 
-        for (List<Interview> interviews : applicationInterviews.values()) {
-            for (Interview interview : interviews) {
-                totalInterviews++;
-                statusCounts.merge(interview.getStatus(), 1, Integer::sum);
-                typeCounts.merge(interview.getType(), 1, Integer::sum);
-            }
+        for (Interview interview : interviewsById.values()) {
+            totalInterviews++;
+            statusCounts.merge(interview.getStatus(), 1, Integer::sum);
+            typeCounts.merge(interview.getType(), 1, Integer::sum);
         }
 
         stats.put("totalInterviews", totalInterviews);
@@ -382,47 +773,74 @@ public class InterviewSchedulingService {
 
     public List<Interview> findAvailableSlots(String interviewerEmail, LocalDateTime startDate,
             LocalDateTime endDate, int durationMinutes) {
-        List<Interview> existingInterviews = getInterviewsForInterviewer(interviewerEmail);
+        List<TimeSlot> busy = getCalendar(interviewerEmail)
+                .busyBetween(startDate, endDate.plusMinutes(durationMinutes));
         List<Interview> availableSlots = new ArrayList<>();
 
-        // Simple slot finding - can be enhanced with more sophisticated logic
+        for (TimeSlot slot : sweepFreeSlots(busy.iterator(), startDate, endDate, durationMinutes, Integer.MAX_VALUE)) {
+            availableSlots.add(new Interview(0L, InterviewType.TECHNICAL_INTERVIEW,
+                    slot.getStart(), slot.getEnd(), interviewerEmail, ""));
+        }
+
+        return availableSlots;
+    }
+
+    /**
+     * Earliest slots in which every panel interviewer and the candidate are free.
+     * Each calendar is already sorted, so the busy intervals are merged in one pass.
+     */
+    public List<TimeSlot> findPanelSlots(List<String> interviewerEmails, List<TimeSlot> candidateBlockedTimes,
+            LocalDateTime startDate, LocalDateTime endDate, int durationMinutes, int maxSlots) {
+        LocalDateTime searchEnd = endDate.plusMinutes(durationMinutes);
+        List<List<TimeSlot>> busyLists = new ArrayList<>(interviewerEmails.size() + 1);
+
+        for (String interviewerEmail : interviewerEmails) {
+            busyLists.add(getCalendar(interviewerEmail).busyBetween(startDate, searchEnd));
+        }
+
+        if (candidateBlockedTimes != null && !candidateBlockedTimes.isEmpty()) {
+            List<TimeSlot> blocked = new ArrayList<>(candidateBlockedTimes);
+            blocked.sort(Comparator.comparing(TimeSlot::getStart));
+            busyLists.add(blocked);
+        }
+
+        return sweepFreeSlots(new MergedIntervals(busyLists), startDate, endDate, durationMinutes, maxSlots);
+    }
+
+    // Single sweep: candidates advance on a 30-minute grid and jump past each busy interval
+    private List<TimeSlot> sweepFreeSlots(Iterator<TimeSlot> busy, LocalDateTime startDate, LocalDateTime endDate,
+            int durationMinutes, int maxSlots) {
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        TimeSlot blocking = busy.hasNext() ? busy.next() : null;
+
         LocalDateTime slot = startDate;
-        while (slot.isBefore(endDate)) {
-            final LocalDateTime currentSlot = slot;
-            LocalDateTime slotEnd = currentSlot.plusMinutes(durationMinutes);
-
-            boolean isAvailable = existingInterviews.stream()
-                    .noneMatch(interview
-                            -> interview.getStatus() != InterviewStatus.CANCELLED
-                    && !(slotEnd.isBefore(interview.getScheduledTime())
-                    || currentSlot.isAfter(interview.getEndTime()))
-                    );
-
-            if (isAvailable) {
-                Interview availableSlot = new Interview(0L, 0L, InterviewType.TECHNICAL_INTERVIEW,
-                        currentSlot, slotEnd, interviewerEmail, "");
-                availableSlots.add(availableSlot);
+        while (slot.isBefore(endDate) && freeSlots.size() < maxSlots) {
+            while (blocking != null && blocking.getEnd().isBefore(slot)) {
+                blocking = busy.hasNext() ? busy.next() : null;
+            }
+
+            LocalDateTime slotEnd = slot.plusMinutes(durationMinutes);
+            if (blocking != null && !slotEnd.isBefore(blocking.getStart())) {
+                slot = nextGridSlotAfter(startDate, blocking.getEnd());
+                continue;
             }
 
-            slot = slot.plusMinutes(30); // Check every 30 minutes
+            freeSlots.add(new TimeSlot(slot, slotEnd));
+            slot = slot.plusMinutes(SLOT_STEP_MINUTES);
         }
 
-        return availableSlots;
+        return freeSlots;
     }
 
-    private synchronized Long generateInterviewId() {
-        return interviewIdCounter++;
+    // First grid slot (startDate + k * step) strictly after the given time
+    private LocalDateTime nextGridSlotAfter(LocalDateTime startDate, LocalDateTime time) {
+        long stepSeconds = SLOT_STEP_MINUTES * 60L;
+        long elapsedSeconds = Duration.between(startDate, time).getSeconds();
+        return startDate.plusSeconds((elapsedSeconds / stepSeconds + 1) * stepSeconds);
     }
 
     private Interview findInterviewById(Long interviewId) {
-        for (List<Interview> interviews : applicationInterviews.values()) {
-            for (Interview interview : interviews) {
-                if (interview.getId().equals(interviewId)) {
-                    return interview;
-                }
-            }
-        }
-        return null;
+        return interviewsById.get(interviewId);
     }
 
     private boolean hasSchedulingConflict(String interviewerEmail, LocalDateTime startTime,
@@ -432,37 +850,33 @@ public class InterviewSchedulingService {
 
     private boolean hasSchedulingConflict(String interviewerEmail, LocalDateTime startTime,
             LocalDateTime endTime, Long excludeInterviewId) {
-        List<Interview> existingInterviews = getInterviewsForInterviewer(interviewerEmail);
-
-        return existingInterviews.stream()
-                .filter(interview -> excludeInterviewId == null || !interview.getId().equals(excludeInterviewId))
-                .filter(interview -> interview.getStatus() != InterviewStatus.CANCELLED)
-                .anyMatch(interview
-                        -> !(endTime.isBefore(interview.getScheduledTime())
-                || startTime.isAfter(interview.getEndTime()))
-                );
+        return getCalendar(interviewerEmail).hasConflict(startTime, endTime, excludeInterviewId);
     }
 
     private void sendInterviewNotifications(Interview interview, Application application) {
         try {
             if (application.getStudent() != null && application.getStudent().getUser() != null) {
-                String message = String.format(
-                        "You have been scheduled for a %s interview on %s with %s. Location: %s",
-                        interview.getType().toString().replace("_", " "),
-                        interview.getScheduledTime().format(DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm")),
-                        interview.getInterviewerName(),
-                        interview.getLocation() != null ? interview.getLocation() : "Virtual"
-                );
+                String message = buildScheduledMessage(interview);
 
                 // Use application status update notification as a workaround
                 notificationService.notifyApplicationStatusUpdate(interview.getApplicationId(),
-                        "Interview Scheduled: " + message);
+                        "Interview Scheduled: " + message, UpdateType.INTERVIEW_UPDATE);
             }
         } catch (Exception e) {
             loggingService.error("Failed to send interview notifications", e);
         }
     }
 
+    private String buildScheduledMessage(Interview interview) {
+        return String.format(
+                "You have been scheduled for a %s interview on %s with %s. Location: %s",
+                interview.getType().toString().replace("_", " "),
+                interview.getScheduledTime().format(DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' HH:mm")),
+                interview.getInterviewerName(),
+                interview.getLocation() != null ? interview.getLocation() : "Virtual"
+        );
+    }
+
     private void sendRescheduleNotifications(Interview interview, Application application, String reason) {
         try {
             if (application.getStudent() != null && application.getStudent().getUser() != null) {
@@ -474,7 +888,7 @@ public class InterviewSchedulingService {
                 );
 
                 notificationService.notifyApplicationStatusUpdate(interview.getApplicationId(),
-                        "Interview Rescheduled: " + message);
+                        "Interview Rescheduled: " + message, UpdateType.URGENT);
             }
         } catch (Exception e) {
             loggingService.error("Failed to send reschedule notifications", e);
@@ -492,7 +906,7 @@ public class InterviewSchedulingService {
                 );
 
                 notificationService.notifyApplicationStatusUpdate(interview.getApplicationId(),
-                        "Interview Cancelled: " + message);
+                        "Interview Cancelled: " + message, UpdateType.URGENT);
             }
         } catch (Exception e) {
             loggingService.error("Failed to send cancellation notifications", e);
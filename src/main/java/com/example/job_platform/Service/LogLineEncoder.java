@@ -0,0 +1,288 @@
+package com.example.job_platform.Service;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import com.example.job_platform.Security.RequestContext;
+
+/**
+ * Encodes log events straight into a reused byte buffer, either as JSON lines or as
+ * the classic text line, and writes the buffer to the channel when it fills up.
+ * Only the log writer thread uses an encoder, so nothing here is synchronized.
+ */
+final class LogLineEncoder {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean json;
+    private final DateTimeFormatter secondFormatter;
+    private final byte[] digits = new byte[20];
+
+    // The timestamp up to whole seconds only changes once a second, so it is formatted once
+    private long cachedSecond = Long.MIN_VALUE;
+    private byte[] cachedSecondText;
+
+    LogLineEncoder(WritableByteChannel channel, int bufferSize, boolean json) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.json = json;
+        this.secondFormatter = DateTimeFormatter.ofPattern(json ? "yyyy-MM-dd'T'HH:mm:ss" : "yyyy-MM-dd HH:mm:ss");
+    }
+
+    void encode(LoggingService.LogEvent event) throws IOException {
+        if (json) {
+            encodeJson(event);
+        } else {
+            encodeText(event);
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void encodeJson(LoggingService.LogEvent event) throws IOException {
+        writeAscii("{\"ts\":\"");
+        writeTimestamp(event.timestamp);
+        writeAscii("\",\"level\":\"");
+        writeAscii(event.level.name());
+        put((byte) '"');
+        if (event.category != null) {
+            writeAscii(",\"category\":");
+            writeJsonString(event.category);
+        }
+        writeAscii(",\"msg\":");
+        writeJsonString(event.message);
+
+        RequestContext context = event.context;
+        if (context != null) {
+            writeAscii(",\"correlationId\":");
+            writeJsonString(context.getCorrelationId());
+            writeAscii(",\"route\":");
+            writeJsonString(context.getRoute());
+            String userEmail = context.getUserEmail();
+            if (userEmail != null) {
+                writeAscii(",\"requestUser\":");
+                writeJsonString(userEmail);
+            }
+        }
+
+        for (int i = 0; i < event.fieldCount; i++) {
+            put((byte) ',');
+            writeJsonString(event.names[i]);
+            put((byte) ':');
+            writeJsonValue(event, i);
+        }
+
+        if (event.exception != null) {
+            writeAscii(",\"exception\":");
+            writeJsonString(event.exception.getClass().getName());
+            writeAscii(",\"exceptionMessage\":");
+            writeJsonString(event.exception.getMessage());
+            if (event.includeStackTrace) {
+                writeAscii(",\"stackTrace\":");
+                writeJsonString(stackTraceOf(event.exception));
+            }
+        }
+        writeAscii("}\n");
+    }
+
+    private void encodeText(LoggingService.LogEvent event) throws IOException {
+        put((byte) '[');
+        writeAscii(event.level.name());
+        writeAscii("] ");
+        writeTimestamp(event.timestamp);
+        if (event.category != null) {
+            writeAscii(" [");
+            writeUtf8(event.category, false);
+            put((byte) ']');
+        }
+        if (event.context != null) {
+            writeAscii(" cid=");
+            writeUtf8(event.context.getCorrelationId(), false);
+        }
+        writeAscii(" - ");
+        writeUtf8(event.message, false);
+
+        if (event.fieldCount > 0) {
+            writeAscii(" | Context: {");
+            for (int i = 0; i < event.fieldCount; i++) {
+                if (i > 0) {
+                    writeAscii(", ");
+                }
+                writeUtf8(event.names[i], false);
+                put((byte) '=');
+                if (event.types[i] == LoggingService.LogEvent.STRING) {
+                    writeUtf8(event.strings[i], false);
+                } else {
+                    writeJsonValue(event, i);
+                }
+            }
+            put((byte) '}');
+        }
+
+        if (event.exception != null) {
+            writeAscii(" | Exception: ");
+            writeUtf8(event.exception.getClass().getSimpleName(), false);
+            writeAscii(" - ");
+            writeUtf8(event.exception.getMessage(), false);
+        }
+        put((byte) '\n');
+
+        if (event.exception != null && event.includeStackTrace) {
+            writeUtf8(stackTraceOf(event.exception), false);
+        }
+    }
+
+    private void writeJsonValue(LoggingService.LogEvent event, int field) throws IOException {
+        switch (event.types[field]) {
+            case LoggingService.LogEvent.LONG:
+                writeLong(event.longs[field]);
+                break;
+            case LoggingService.LogEvent.BOOLEAN:
+                writeAscii(event.longs[field] != 0 ? "true" : "false");
+                break;
+            default:
+                writeJsonString(event.strings[field]);
+        }
+    }
+
+    private void writeTimestamp(long epochMillis) throws IOException {
+        long second = Math.floorDiv(epochMillis, 1000);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedSecondText = secondFormatter.format(LocalDateTime.ofInstant(
+                    Instant.ofEpochSecond(second), ZoneId.systemDefault())).getBytes(StandardCharsets.US_ASCII);
+        }
+        ensure(cachedSecondText.length + 4);
+        buffer.put(cachedSecondText);
+
+        int millis = (int) Math.floorMod(epochMillis, 1000);
+        buffer.put((byte) '.');
+        buffer.put((byte) ('0' + millis / 100));
+        buffer.put((byte) ('0' + millis / 10 % 10));
+        buffer.put((byte) ('0' + millis % 10));
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        if (value == null) {
+            writeAscii("null");
+            return;
+        }
+        put((byte) '"');
+        writeUtf8(value, true);
+        put((byte) '"');
+    }
+
+    // UTF-8 without going through a CharsetEncoder; escapes for JSON when asked
+    private void writeUtf8(String value, boolean escape) throws IOException {
+        if (value == null) {
+            writeAscii("null");
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            ensure(6);
+            if (c < 0x80) {
+                if (escape && (c == '"' || c == '\\')) {
+                    buffer.put((byte) '\\').put((byte) c);
+                } else if (escape && c < 0x20) {
+                    writeControlEscape(c);
+                } else {
+                    buffer.put((byte) c);
+                }
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private void writeControlEscape(char c) {
+        switch (c) {
+            case '\n':
+                buffer.put((byte) '\\').put((byte) 'n');
+                break;
+            case '\r':
+                buffer.put((byte) '\\').put((byte) 'r');
+                break;
+            case '\t':
+                buffer.put((byte) '\\').put((byte) 't');
+                break;
+            default:
+                buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put(HEX[c >> 4]).put(HEX[c & 0xF]);
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+
+        ensure(20);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        buffer.put(digits, position, digits.length - position);
+    }
+
+    private void writeAscii(String value) throws IOException {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    private void put(byte value) throws IOException {
+        ensure(1);
+        buffer.put(value);
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private static String stackTraceOf(Throwable exception) {
+        StringWriter stackTrace = new StringWriter();
+        exception.printStackTrace(new PrintWriter(stackTrace));
+        return stackTrace.toString();
+    }
+}
@@ -1,13 +1,45 @@
 package com.example.job_platform.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.job_platform.Security.RequestContext;
+
+/**
+ * Application logger. Callers only capture the event and copy it into a bounded
+ * ring buffer; a single writer thread encodes events as JSON lines (or text) straight
+ * into a reused byte buffer and writes them in batches to a channel (stdout unless
+ * {@code app.logging.file} is set), so request threads never contend on an output
+ * stream and structured fields are never collected into maps. Events logged while a
+ * {@link RequestContext} is bound carry its correlation id, user and route.
+ *
+ * <p>Levels are checked before anything is captured. Each {@link LogCategory} holds
+ * its resolved threshold in one volatile field, so a disabled call, including one
+ * whose message is built by a {@link Supplier}, costs a single read. Thresholds come
+ * from {@code app.logging.level} and {@code app.logging.category-levels} and can be
+ * changed at runtime through {@link #setLevel}.
+ */
 @Service
 public class LoggingService {
 
@@ -15,13 +47,381 @@ public class LoggingService {
         DEBUG, INFO, WARN, ERROR, CRITICAL
     }
 
-    private final Map<LogLevel, AtomicLong> logCounts = new ConcurrentHashMap<>();
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final int BATCH_SIZE = 512;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public static final String ROOT_CATEGORY = "root";
+
+    @Value("${app.logging.buffer-size:16384}")
+    private int bufferSize = 16384;
+
+    // Levels at or above this wait for space when the buffer is full; lower ones are dropped
+    @Value("${app.logging.block-level:ERROR}")
+    private LogLevel blockLevel = LogLevel.ERROR;
+
+    // DEBUG is dropped once the buffer is this full, keeping room for more important events
+    @Value("${app.logging.debug-drop-threshold:0.5}")
+    private double debugDropThreshold = 0.5;
+
+    @Value("${app.logging.file:}")
+    private String logFile = "";
+
+    // json writes one JSON object per line; text keeps the classic "[LEVEL] time - message" line
+    @Value("${app.logging.format:json}")
+    private String format = "json";
+
+    // Threshold for the root category, inherited by categories without their own level
+    @Value("${app.logging.level:INFO}")
+    private volatile LogLevel rootLevel = LogLevel.INFO;
+
+    // Comma-separated overrides such as "workflow=DEBUG,interview.reminders=WARN"
+    @Value("${app.logging.category-levels:}")
+    private String categoryLevels = "";
+
+    private final Map<LogLevel, LongAdder> logCounts = new EnumMap<>(LogLevel.class);
+    private final Map<LogLevel, LongAdder> droppedCounts = new EnumMap<>(LogLevel.class);
+
+    private volatile LogRing ring;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    // Each thread fills its own record and copies it into a ring slot on log()
+    private final ThreadLocal<LogRecord> records = ThreadLocal.withInitial(() -> new LogRecord(this));
+
+    // Registered categories and the levels set explicitly for some of them
+    private final Map<String, LogCategory> categories = new ConcurrentHashMap<>();
+    private final Map<String, LogLevel> configuredLevels = new ConcurrentHashMap<>();
+    private final Object levelLock = new Object();
+    private final LogCategory root;
+
+    /**
+     * One event: level, message, exception and up to {@link #MAX_FIELDS} typed fields
+     * held in parallel arrays, so recording a number or a flag boxes nothing. The
+     * ring preallocates one per slot and the writer clears it after encoding.
+     */
+    static final class LogEvent {
+
+        static final int MAX_FIELDS = 16;
+        static final byte STRING = 0;
+        static final byte LONG = 1;
+        static final byte BOOLEAN = 2;
+
+        LogLevel level;
+        String category;
+        RequestContext context;
+        long timestamp;
+        String message;
+        Exception exception;
+        boolean includeStackTrace;
+        int fieldCount;
+        final String[] names = new String[MAX_FIELDS];
+        final byte[] types = new byte[MAX_FIELDS];
+        final String[] strings = new String[MAX_FIELDS];
+        final long[] longs = new long[MAX_FIELDS];
+
+        void begin(String category, LogLevel level, String message) {
+            this.category = category;
+            this.context = RequestContext.current();
+            this.level = level;
+            this.timestamp = System.currentTimeMillis();
+            this.message = message;
+            this.includeStackTrace = level == LogLevel.ERROR || level == LogLevel.CRITICAL;
+        }
+
+        void add(String name, byte type, String text, long number) {
+            // Fields past the limit are left out rather than growing the event
+            if (fieldCount == MAX_FIELDS) {
+                return;
+            }
+            names[fieldCount] = name;
+            types[fieldCount] = type;
+            strings[fieldCount] = text;
+            longs[fieldCount] = number;
+            fieldCount++;
+        }
+
+        void copyFrom(LogEvent source) {
+            level = source.level;
+            category = source.category;
+            context = source.context;
+            timestamp = source.timestamp;
+            message = source.message;
+            exception = source.exception;
+            includeStackTrace = source.includeStackTrace;
+            fieldCount = source.fieldCount;
+            System.arraycopy(source.names, 0, names, 0, fieldCount);
+            System.arraycopy(source.types, 0, types, 0, fieldCount);
+            System.arraycopy(source.strings, 0, strings, 0, fieldCount);
+            System.arraycopy(source.longs, 0, longs, 0, fieldCount);
+        }
+
+        // Drops references so a recycled event doesn't keep messages or exceptions alive
+        void clear() {
+            message = null;
+            exception = null;
+            context = null;
+            for (int i = 0; i < fieldCount; i++) {
+                names[i] = null;
+                strings[i] = null;
+            }
+            fieldCount = 0;
+        }
+    }
+
+    /**
+     * Fluent structured event, e.g.
+     * {@code loggingService.event(LogLevel.INFO, "Job posted").field("jobId", id).field("user", email).log()}.
+     * The record is reused by the calling thread, so it must not be kept after {@link #log()}.
+     * When the level is off the shared disabled record is returned and every call is a no-op.
+     */
+    public static final class LogRecord {
+
+        private static final LogRecord DISABLED = new LogRecord(null);
+
+        private final LoggingService owner;
+        private final LogEvent event = new LogEvent();
+        private boolean active;
+
+        private LogRecord(LoggingService owner) {
+            this.owner = owner;
+        }
+
+        public LogRecord field(String name, String value) {
+            if (owner != null) {
+                event.add(name, LogEvent.STRING, value, 0);
+            }
+            return this;
+        }
+
+        public LogRecord field(String name, long value) {
+            if (owner != null) {
+                event.add(name, LogEvent.LONG, null, value);
+            }
+            return this;
+        }
+
+        public LogRecord field(String name, boolean value) {
+            if (owner != null) {
+                event.add(name, LogEvent.BOOLEAN, null, value ? 1 : 0);
+            }
+            return this;
+        }
+
+        public LogRecord exception(Exception exception) {
+            if (owner != null) {
+                event.exception = exception;
+            }
+            return this;
+        }
+
+        public void log() {
+            if (owner == null) {
+                return;
+            }
+            try {
+                owner.publish(event);
+            } finally {
+                event.clear();
+                active = false;
+            }
+        }
+    }
+
+    /**
+     * A named logger with its own threshold, obtained once from {@link #category(String)}
+     * and kept in a field. Names are dotted; a category without its own level takes the
+     * level of its nearest configured parent, then the root level.
+     */
+    public static final class LogCategory {
+
+        private final LoggingService owner;
+        private final String name;
+        private volatile LogLevel threshold;
+
+        private LogCategory(LoggingService owner, String name, LogLevel threshold) {
+            this.owner = owner;
+            this.name = name;
+            this.threshold = threshold;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LogLevel getLevel() {
+            return threshold;
+        }
+
+        public boolean isEnabled(LogLevel level) {
+            return level.compareTo(threshold) >= 0;
+        }
+
+        public LogRecord event(LogLevel level, String message) {
+            return isEnabled(level) ? owner.startRecord(name, level, message) : LogRecord.DISABLED;
+        }
+
+        public void debug(Supplier<String> message) {
+            log(LogLevel.DEBUG, message);
+        }
+
+        public void info(Supplier<String> message) {
+            log(LogLevel.INFO, message);
+        }
+
+        public void warn(Supplier<String> message) {
+            log(LogLevel.WARN, message);
+        }
+
+        public void logUserAction(String userEmail, String action, Supplier<String> details) {
+            if (isEnabled(LogLevel.INFO)) {
+                owner.userAction(name, userEmail, action, details.get());
+            }
+        }
+
+        public void logSystemEvent(String event, Supplier<String> details) {
+            if (isEnabled(LogLevel.INFO)) {
+                owner.systemEvent(name, event, details.get());
+            }
+        }
+
+        private void log(LogLevel level, Supplier<String> message) {
+            if (isEnabled(level)) {
+                owner.startRecord(name, level, message.get()).log();
+            }
+        }
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer ring of preallocated events. Each slot
+     * carries a sequence number: producers claim a slot with one CAS on the tail, copy
+     * their event into it and publish it by advancing the slot's sequence; the consumer
+     * frees it by moving the sequence one lap ahead. No locks, and a full ring is
+     * detected without blocking. Retiring sets the tail's sign bit, so claims stop in the
+     * same atomic step that fixes the last position the consumer has to drain.
+     */
+    static final class LogRing {
+
+        static final long FULL = -1;
+        static final long RETIRED = -2;
+        private static final long RETIRED_BIT = Long.MIN_VALUE;
+
+        private final int mask;
+        private final LogEvent[] slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong head = new AtomicLong();
+
+        LogRing(int requestedCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(requestedCapacity - 1, 1)) << 1;
+            this.mask = capacity - 1;
+            this.slots = new LogEvent[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new LogEvent();
+                sequences.set(i, i);
+            }
+        }
+
+        // Position of a claimed slot, FULL, or RETIRED once the ring takes no more events
+        long claim() {
+            while (true) {
+                long position = tail.get();
+                if (position < 0) {
+                    return RETIRED;
+                }
+                long difference = sequences.get((int) (position & mask)) - position;
+
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        return position;
+                    }
+                } else if (difference < 0) {
+                    return FULL;
+                }
+            }
+        }
+
+        LogEvent slot(long position) {
+            return slots[(int) (position & mask)];
+        }
+
+        void publish(long position) {
+            sequences.lazySet((int) (position & mask), position + 1);
+        }
+
+        // Called from the writer thread only; the event stays valid until release()
+        LogEvent peek() {
+            long position = head.get();
+            int index = (int) (position & mask);
+            return sequences.get(index) == position + 1 ? slots[index] : null;
+        }
+
+        void release() {
+            long position = head.get();
+            sequences.lazySet((int) (position & mask), position + mask + 1);
+            head.lazySet(position + 1);
+        }
+
+        // Stops further claims; slots already claimed are still published and drained
+        void retire() {
+            tail.getAndUpdate(position -> position | RETIRED_BIT);
+        }
+
+        double fillRatio() {
+            return (double) (end() - head.get()) / (mask + 1);
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        boolean isEmpty() {
+            return end() == head.get();
+        }
+
+        private long end() {
+            return tail.get() & ~RETIRED_BIT;
+        }
+    }
 
     public LoggingService() {
         // Initialize counters
         for (LogLevel level : LogLevel.values()) {
-            logCounts.put(level, new AtomicLong(0));
+            logCounts.put(level, new LongAdder());
+            droppedCounts.put(level, new LongAdder());
+        }
+        ring = new LogRing(bufferSize);
+        root = new LogCategory(this, ROOT_CATEGORY, rootLevel);
+        categories.put(ROOT_CATEGORY, root);
+    }
+
+    @PostConstruct
+    public void startWriter() throws Exception {
+        applyConfiguredLevels();
+
+        LogRing previous = ring;
+        ring = new LogRing(bufferSize);
+
+        // Stdout goes through System.out so test runners and containers still capture it
+        WritableByteChannel channel = logFile == null || logFile.trim().isEmpty()
+                ? Channels.newChannel(System.out)
+                : openLogFile(logFile.trim());
+
+        LogLineEncoder encoder = new LogLineEncoder(channel, WRITE_BUFFER_BYTES, !"text".equalsIgnoreCase(format.trim()));
+
+        running = true;
+        writerThread = new Thread(() -> runWriter(channel, encoder, previous), "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
         }
     }
 
@@ -77,112 +477,328 @@ public class LoggingService {
         log(LogLevel.CRITICAL, message, exception, context);
     }
 
+    public void debug(Supplier<String> message) {
+        root.debug(message);
+    }
+
+    public void info(Supplier<String> message) {
+        root.info(message);
+    }
+
+    public void warn(Supplier<String> message) {
+        root.warn(message);
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return root.isEnabled(level);
+    }
+
+    /**
+     * Starts a structured event on the calling thread's reusable record. Finish it
+     * with {@link LogRecord#log()}.
+     */
+    public LogRecord event(LogLevel level, String message) {
+        return root.event(level, message);
+    }
+
+    private LogRecord startRecord(String category, LogLevel level, String message) {
+        LogRecord record = records.get();
+        if (record.active) {
+            // Nested use, e.g. a field value computed by code that logs itself
+            record = new LogRecord(this);
+        }
+        record.active = true;
+        record.event.begin(ROOT_CATEGORY.equals(category) ? null : category, level, message);
+        return record;
+    }
+
     private void log(LogLevel level, String message, Exception exception, Map<String, Object> context) {
-        try {
-            // Increment counter
-            logCounts.get(level).incrementAndGet();
+        if (!root.isEnabled(level)) {
+            return;
+        }
+
+        LogRecord record = startRecord(ROOT_CATEGORY, level, message).exception(exception);
+        if (context != null) {
+            for (Map.Entry<String, Object> entry : context.entrySet()) {
+                Object value = entry.getValue();
+                if (value instanceof Long || value instanceof Integer) {
+                    record.field(entry.getKey(), ((Number) value).longValue());
+                } else if (value instanceof Boolean) {
+                    record.field(entry.getKey(), ((Boolean) value).booleanValue());
+                } else {
+                    record.field(entry.getKey(), value != null ? value.toString() : null);
+                }
+            }
+        }
+        record.log();
+    }
+
+    private void publish(LogEvent event) {
+        LogLevel level = event.level;
+        logCounts.get(level).increment();
 
-            // Build log entry
-            StringBuilder logEntry = new StringBuilder();
-            logEntry.append("[").append(level.name()).append("] ");
-            logEntry.append(LocalDateTime.now().format(formatter)).append(" - ");
-            logEntry.append(message);
+        // Retried only when startWriter swaps rings under us; the swap happens once
+        while (true) {
+            LogRing target = ring;
 
-            // Add context if provided
-            if (context != null && !context.isEmpty()) {
-                logEntry.append(" | Context: ").append(formatContext(context));
+            if (level == LogLevel.DEBUG && target.fillRatio() >= debugDropThreshold) {
+                droppedCounts.get(level).increment();
+                return;
             }
 
-            // Add exception details if provided
-            if (exception != null) {
-                logEntry.append(" | Exception: ").append(exception.getClass().getSimpleName());
-                logEntry.append(" - ").append(exception.getMessage());
+            long position = target.claim();
+            if (position == LogRing.FULL) {
+                if (level.compareTo(blockLevel) < 0) {
+                    droppedCounts.get(level).increment();
+                    return;
+                }
+
+                // Important events wait for the writer rather than being lost
+                while ((position = target.claim()) == LogRing.FULL) {
+                    if (!running) {
+                        droppedCounts.get(level).increment();
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+                }
+            }
+            if (position == LogRing.RETIRED) {
+                continue;
             }
 
-            // Output to console (in production, this would go to a proper logging framework)
-            System.out.println(logEntry.toString());
+            target.slot(position).copyFrom(event);
+            target.publish(position);
+            return;
+        }
+    }
 
-            // Print stack trace for ERROR and CRITICAL levels
-            if ((level == LogLevel.ERROR || level == LogLevel.CRITICAL) && exception != null) {
-                exception.printStackTrace();
+    private void runWriter(WritableByteChannel channel, LogLineEncoder encoder, LogRing startupRing) {
+        // Events logged before startup went to the constructor's buffer. Producers that read
+        // the old reference may still be claiming or copying into it, so retire it and wait
+        // for every claimed slot to be published before leaving it behind
+        startupRing.retire();
+        while (!startupRing.isEmpty()) {
+            if (drainBatch(startupRing, encoder, Integer.MAX_VALUE) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        flush(encoder);
+
+        while (running || !ring.isEmpty()) {
+            int written = drainBatch(ring, encoder, BATCH_SIZE);
+            if (written > 0) {
+                flush(encoder);
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
             }
+        }
 
-        } catch (Exception loggingException) {
-            // Prevent logging failures from breaking the application
-            System.err.println("Logging failed: " + loggingException.getMessage());
+        try {
+            if (channel instanceof FileChannel) {
+                ((FileChannel) channel).force(false);
+            }
+        } catch (Exception e) {
+            System.err.println("Logging failed: " + e.getMessage());
         }
     }
 
-    private String formatContext(Map<String, Object> context) {
-        StringBuilder contextString = new StringBuilder("{");
-        boolean first = true;
-        for (Map.Entry<String, Object> entry : context.entrySet()) {
-            if (!first) {
-                contextString.append(", ");
+    private int drainBatch(LogRing source, LogLineEncoder encoder, int maxEvents) {
+        int count = 0;
+        LogEvent event;
+        while (count < maxEvents && (event = source.peek()) != null) {
+            try {
+                encoder.encode(event);
+            } catch (Exception e) {
+                // Prevent logging failures from breaking the application
+                System.err.println("Logging failed: " + e.getMessage());
+            } finally {
+                event.clear();
+                source.release();
             }
-            contextString.append(entry.getKey()).append("=").append(entry.getValue());
-            first = false;
+            count++;
+        }
+        return count;
+    }
+
+    private void flush(LogLineEncoder encoder) {
+        try {
+            encoder.flush();
+        } catch (Exception e) {
+            System.err.println("Logging failed: " + e.getMessage());
         }
-        contextString.append("}");
-        return contextString.toString();
+    }
+
+    private static FileChannel openLogFile(String file) throws Exception {
+        Path path = Paths.get(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
     }
 
     public void logUserAction(String userEmail, String action, String details) {
-        Map<String, Object> context = new ConcurrentHashMap<>();
-        context.put("user", userEmail);
-        context.put("action", action);
-        context.put("details", details);
-        info("User action performed", context);
+        if (root.isEnabled(LogLevel.INFO)) {
+            userAction(ROOT_CATEGORY, userEmail, action, details);
+        }
     }
 
     public void logSystemEvent(String event, String details) {
-        Map<String, Object> context = new ConcurrentHashMap<>();
-        context.put("eventType", "SYSTEM");
-        context.put("event", event);
-        context.put("details", details);
-        info("System event", context);
+        if (root.isEnabled(LogLevel.INFO)) {
+            systemEvent(ROOT_CATEGORY, event, details);
+        }
+    }
+
+    private void userAction(String category, String userEmail, String action, String details) {
+        startRecord(category, LogLevel.INFO, "User action performed")
+                .field("user", userEmail)
+                .field("action", action)
+                .field("details", details)
+                .log();
+    }
+
+    private void systemEvent(String category, String event, String details) {
+        startRecord(category, LogLevel.INFO, "System event")
+                .field("eventType", "SYSTEM")
+                .field("event", event)
+                .field("details", details)
+                .log();
     }
 
     public void logPerformanceMetric(String operation, long executionTimeMs, boolean success) {
-        Map<String, Object> context = new ConcurrentHashMap<>();
-        context.put("operation", operation);
-        context.put("executionTimeMs", executionTimeMs);
-        context.put("success", success);
-        
         LogLevel level = success ? LogLevel.INFO : LogLevel.WARN;
         if (executionTimeMs > 5000) { // Slow operation
             level = LogLevel.WARN;
         }
-        
-        log(level, "Performance metric", null, context);
+
+        event(level, "Performance metric")
+                .field("operation", operation)
+                .field("executionTimeMs", executionTimeMs)
+                .field("success", success)
+                .log();
     }
 
     public void logSecurityEvent(String eventType, String userEmail, String ipAddress, String details) {
-        Map<String, Object> context = new ConcurrentHashMap<>();
-        context.put("eventType", eventType);
-        context.put("user", userEmail);
-        context.put("ipAddress", ipAddress);
-        context.put("details", details);
-        
         LogLevel level = eventType.contains("FAILURE") || eventType.contains("LOCKED") ? LogLevel.WARN : LogLevel.INFO;
         if (eventType.contains("SUSPICIOUS") || eventType.contains("UNAUTHORIZED")) {
             level = LogLevel.ERROR;
         }
-        
-        log(level, "Security event", null, context);
+
+        event(level, "Security event")
+                .field("eventType", eventType)
+                .field("user", userEmail)
+                .field("ipAddress", ipAddress)
+                .field("details", details)
+                .log();
+    }
+
+    /**
+     * Returns the category with this name, registering it on first use. Callers keep
+     * the handle; looking it up on every log call would defeat the cheap level check.
+     */
+    public LogCategory category(String name) {
+        LogCategory category = categories.get(name);
+        if (category != null) {
+            return category;
+        }
+        synchronized (levelLock) {
+            return categories.computeIfAbsent(name, n -> new LogCategory(this, n, resolveLevel(n)));
+        }
+    }
+
+    /**
+     * Sets the level of a category (or of {@link #ROOT_CATEGORY}) and re-resolves every
+     * registered category. A null level removes the override so the category inherits again.
+     */
+    public void setLevel(String name, LogLevel level) {
+        synchronized (levelLock) {
+            if (ROOT_CATEGORY.equals(name)) {
+                rootLevel = level != null ? level : LogLevel.INFO;
+            } else if (level != null) {
+                configuredLevels.put(name, level);
+            } else {
+                configuredLevels.remove(name);
+            }
+
+            for (LogCategory category : categories.values()) {
+                category.threshold = resolveLevel(category.name);
+            }
+        }
+        logSystemEvent("LOG_LEVEL_CHANGED", name + " set to " + (level != null ? level : "inherited"));
+    }
+
+    // Effective level of every registered category
+    public Map<String, LogLevel> getLevels() {
+        Map<String, LogLevel> levels = new TreeMap<>();
+        for (LogCategory category : categories.values()) {
+            levels.put(category.name, category.threshold);
+        }
+        return levels;
+    }
+
+    public Map<String, LogLevel> getConfiguredLevels() {
+        return new TreeMap<>(configuredLevels);
+    }
+
+    private LogLevel resolveLevel(String name) {
+        String candidate = name;
+        while (!ROOT_CATEGORY.equals(candidate)) {
+            LogLevel level = configuredLevels.get(candidate);
+            if (level != null) {
+                return level;
+            }
+            int dot = candidate.lastIndexOf('.');
+            if (dot < 0) {
+                break;
+            }
+            candidate = candidate.substring(0, dot);
+        }
+        return rootLevel;
+    }
+
+    private void applyConfiguredLevels() {
+        synchronized (levelLock) {
+            if (categoryLevels != null) {
+                for (String entry : categoryLevels.split(",")) {
+                    int separator = entry.indexOf('=');
+                    if (separator > 0) {
+                        configuredLevels.put(entry.substring(0, separator).trim(),
+                                LogLevel.valueOf(entry.substring(separator + 1).trim().toUpperCase()));
+                    }
+                }
+            }
+            for (LogCategory category : categories.values()) {
+                category.threshold = resolveLevel(category.name);
+            }
+        }
     }
 
     public Map<LogLevel, Long> getLogStatistics() {
         Map<LogLevel, Long> stats = new ConcurrentHashMap<>();
-        for (Map.Entry<LogLevel, AtomicLong> entry : logCounts.entrySet()) {
-            stats.put(entry.getKey(), entry.getValue().get());
+        for (Map.Entry<LogLevel, LongAdder> entry : logCounts.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().sum());
+        }
+        return stats;
+    }
+
+    // Events lost to buffer overflow, by level
+    public Map<LogLevel, Long> getDroppedStatistics() {
+        Map<LogLevel, Long> stats = new EnumMap<>(LogLevel.class);
+        for (Map.Entry<LogLevel, LongAdder> entry : droppedCounts.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().sum());
         }
         return stats;
     }
 
+    public double getBufferFillRatio() {
+        return ring.fillRatio();
+    }
+
     public void resetStatistics() {
-        for (AtomicLong counter : logCounts.values()) {
-            counter.set(0);
+        for (LongAdder counter : logCounts.values()) {
+            counter.reset();
+        }
+        for (LongAdder counter : droppedCounts.values()) {
+            counter.reset();
         }
         info("Log statistics reset");
     }
@@ -191,9 +807,9 @@ public class LoggingService {
     public boolean isHealthy() {
         try {
             debug("Health check test log");
-            return true;
+            return running && writerThread.isAlive();
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
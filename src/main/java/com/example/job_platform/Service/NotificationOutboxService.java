@@ -0,0 +1,332 @@
+package com.example.job_platform.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.job_platform.DTO.EmailRequest;
+import com.example.job_platform.Entity.OutboxMessage;
+import com.example.job_platform.Enum.OutboxStatus;
+import com.example.job_platform.Repository.OutboxMessageRepository;
+import com.example.job_platform.Service.NotificationTemplateService.Template;
+
+/**
+ * Transactional outbox for outgoing email. {@link #enqueue} only inserts a row, joining
+ * the caller's transaction when there is one, so a notification commits or rolls back
+ * together with the change that caused it. A background dispatcher claims due rows,
+ * sends them and retries failures with exponential backoff until they are dead-lettered.
+ */
+@Service
+public class NotificationOutboxService {
+
+    @Autowired
+    private OutboxMessageRepository outboxRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private LoggingService loggingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationTemplateService templateService;
+
+    @Value("${app.notifications.digest-window-minutes:10}")
+    private long digestWindowMinutes;
+
+    private static final int DISPATCH_BATCH_SIZE = 100;
+    private static final long POLL_INTERVAL_SECONDS = 5;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+    private static final long STALE_CLAIM_MINUTES = 10;
+
+    // The poller is single-threaded, so dispatch rounds never overlap
+    private final ScheduledExecutorService dispatchScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    @PostConstruct
+    public void startDispatcher() {
+        dispatchScheduler.scheduleWithFixedDelay(this::dispatchDueMessages,
+                POLL_INTERVAL_SECONDS, POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchScheduler.shutdown();
+    }
+
+    public void enqueue(EmailRequest request) {
+        outboxRepository.save(new OutboxMessage(request.getTo(), request.getSubject(), request.getBody()));
+        wakeDispatcherAfterCommit();
+    }
+
+    public void enqueueAll(List<EmailRequest> requests) {
+        List<OutboxMessage> messages = new ArrayList<>(requests.size());
+        for (EmailRequest request : requests) {
+            messages.add(new OutboxMessage(request.getTo(), request.getSubject(), request.getBody()));
+        }
+        enqueueMessages(messages);
+    }
+
+    /**
+     * Inserts prepared messages. Digestible ones join their recipient's open digest
+     * window, or open a new one, and replace any pending message with the same
+     * supersede key.
+     */
+    public void enqueueMessages(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        // Joins the caller's transaction; opens one for callers without, since supersede is an update
+        transactionTemplate.executeWithoutResult(status -> insertMessages(messages));
+    }
+
+    private void insertMessages(List<OutboxMessage> messages) {
+
+        Set<String> digestKeys = new HashSet<>();
+        Map<String, OutboxMessage> latestBySupersedeKey = new HashMap<>();
+        for (OutboxMessage message : messages) {
+            if (message.getDigestKey() != null) {
+                digestKeys.add(message.getDigestKey());
+            }
+            if (message.getSupersedeKey() != null) {
+                OutboxMessage replaced = latestBySupersedeKey.put(message.getSupersedeKey(), message);
+                if (replaced != null) {
+                    replaced.setStatus(OutboxStatus.SUPERSEDED);
+                }
+            }
+        }
+
+        if (!digestKeys.isEmpty()) {
+            // The window closes when the recipient's earliest pending digest message is due
+            LocalDateTime defaultClose = LocalDateTime.now().plusMinutes(digestWindowMinutes);
+            Map<String, LocalDateTime> windowClose = new HashMap<>();
+            for (OutboxMessage pending : outboxRepository.findByDigestKeyInAndStatus(digestKeys, OutboxStatus.PENDING)) {
+                windowClose.merge(pending.getDigestKey(), pending.getNextAttemptAt(),
+                        (a, b) -> a.isBefore(b) ? a : b);
+            }
+            for (OutboxMessage message : messages) {
+                if (message.getDigestKey() != null) {
+                    LocalDateTime close = windowClose.getOrDefault(message.getDigestKey(), defaultClose);
+                    message.setNextAttemptAt(close.isBefore(defaultClose) ? close : defaultClose);
+                }
+            }
+        }
+
+        if (!latestBySupersedeKey.isEmpty()) {
+            outboxRepository.supersede(latestBySupersedeKey.keySet());
+        }
+        outboxRepository.saveAll(messages);
+        wakeDispatcherAfterCommit();
+    }
+
+    public Map<OutboxStatus, Long> getOutboxStatistics() {
+        Map<OutboxStatus, Long> statistics = new EnumMap<>(OutboxStatus.class);
+        for (OutboxStatus status : OutboxStatus.values()) {
+            statistics.put(status, outboxRepository.countByStatus(status));
+        }
+        return statistics;
+    }
+
+    // New rows are invisible to the dispatcher until the enqueuing transaction commits
+    private void wakeDispatcherAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeDispatcher();
+                }
+            });
+        } else {
+            wakeDispatcher();
+        }
+    }
+
+    // Coalesces wake-ups so a burst of enqueues triggers a single extra round
+    private void wakeDispatcher() {
+        if (wakeRequested.compareAndSet(false, true)) {
+            try {
+                dispatchScheduler.execute(this::dispatchDueMessages);
+            } catch (Exception e) {
+                wakeRequested.set(false);
+            }
+        }
+    }
+
+    private void dispatchDueMessages() {
+        wakeRequested.set(false);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxRepository.releaseStaleClaims(now.minusMinutes(STALE_CLAIM_MINUTES)));
+
+            List<Long> dueIds;
+            do {
+                dueIds = outboxRepository.findDueIds(OutboxStatus.PENDING, LocalDateTime.now(),
+                        PageRequest.of(0, DISPATCH_BATCH_SIZE));
+
+                List<Long> claimedIds = new ArrayList<>(dueIds.size());
+                for (Long id : dueIds) {
+                    if (claim(id)) {
+                        claimedIds.add(id);
+                    }
+                }
+                if (!claimedIds.isEmpty()) {
+                    deliver(withPendingDigestMessages(outboxRepository.findAllById(claimedIds)));
+                }
+            } while (dueIds.size() == DISPATCH_BATCH_SIZE);
+
+        } catch (Exception e) {
+            // Keep the poller alive; a thrown exception would cancel the schedule
+            loggingService.error("Notification outbox dispatch round failed", e);
+        }
+    }
+
+    private boolean claim(Long id) {
+        Integer claimed = transactionTemplate.execute(status -> outboxRepository.claim(id, LocalDateTime.now()));
+        return claimed != null && claimed == 1;
+    }
+
+    // A due digest message takes the rest of its recipient's pending digest along with it
+    private List<OutboxMessage> withPendingDigestMessages(List<OutboxMessage> messages) {
+        Set<String> digestKeys = new HashSet<>();
+        Set<Long> claimedIds = new HashSet<>();
+        for (OutboxMessage message : messages) {
+            claimedIds.add(message.getId());
+            if (message.getDigestKey() != null) {
+                digestKeys.add(message.getDigestKey());
+            }
+        }
+
+        List<Long> extraIds = new ArrayList<>();
+        for (String digestKey : digestKeys) {
+            for (Long id : outboxRepository.findPendingIdsByDigestKey(digestKey)) {
+                if (!claimedIds.contains(id) && claim(id)) {
+                    extraIds.add(id);
+                }
+            }
+        }
+        if (extraIds.isEmpty()) {
+            return messages;
+        }
+
+        List<OutboxMessage> combined = new ArrayList<>(messages);
+        combined.addAll(outboxRepository.findAllById(extraIds));
+        return combined;
+    }
+
+    // The whole round goes to the mail sender as one batch so connections are reused
+    private void deliver(List<OutboxMessage> messages) {
+        Map<EmailRequest, List<OutboxMessage>> messagesByRequest = new IdentityHashMap<>();
+        Map<String, List<OutboxMessage>> digests = new HashMap<>();
+        for (OutboxMessage message : messages) {
+            if (message.getDigestKey() != null) {
+                digests.computeIfAbsent(message.getDigestKey(), k -> new ArrayList<>()).add(message);
+            } else {
+                messagesByRequest.put(toEmail(message), Collections.singletonList(message));
+            }
+        }
+        for (List<OutboxMessage> digest : digests.values()) {
+            messagesByRequest.put(digest.size() == 1 ? toEmail(digest.get(0)) : toDigestEmail(digest), digest);
+        }
+
+        List<EmailRequest> requests = new ArrayList<>(messagesByRequest.keySet());
+        Map<EmailRequest, Exception> failures = emailService.sendBatch(requests);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (EmailRequest request : requests) {
+            Exception failure = failures.get(request);
+            for (OutboxMessage message : messagesByRequest.get(request)) {
+                recordResult(message, failure, now);
+            }
+        }
+
+        try {
+            outboxRepository.saveAll(messages);
+        } catch (Exception e) {
+            // The claims go stale and the messages are retried, so they may be delivered twice
+            loggingService.error("Failed to record delivery of " + messages.size() + " outbox messages", e);
+        }
+    }
+
+    private EmailRequest toEmail(OutboxMessage message) {
+        return new EmailRequest(message.getRecipient(), message.getSubject(), message.getBody());
+    }
+
+    private EmailRequest toDigestEmail(List<OutboxMessage> digest) {
+        digest.sort(Comparator.comparing(OutboxMessage::getId));
+        StringBuilder updates = new StringBuilder();
+        for (OutboxMessage message : digest) {
+            if (updates.length() > 0) {
+                updates.append('\n');
+            }
+            updates.append("- ").append(message.getDigestLine());
+        }
+        return templateService.renderEmail(Template.DIGEST, Locale.ROOT, digest.get(0).getRecipient(),
+                digest.size(), updates);
+    }
+
+    private void recordResult(OutboxMessage message, Exception failure, LocalDateTime now) {
+        if (failure == null) {
+            message.setStatus(OutboxStatus.SENT);
+            message.setSentAt(now);
+            message.setLastError(null);
+            return;
+        }
+
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(truncate(failure.getMessage()));
+
+        if (attempts >= MAX_ATTEMPTS) {
+            message.setStatus(OutboxStatus.DEAD);
+            loggingService.error("Dead-lettered outbox message " + message.getId() + " to "
+                    + message.getRecipient() + " after " + attempts + " attempts", failure);
+        } else {
+            message.setStatus(OutboxStatus.PENDING);
+            message.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+            loggingService.warn("Outbox message " + message.getId() + " failed, attempt "
+                    + attempts + " of " + MAX_ATTEMPTS, failure);
+        }
+    }
+
+    // 30s, 60s, 120s, ... capped at an hour
+    static long backoffSeconds(int attempts) {
+        return Math.min(BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20), MAX_BACKOFF_SECONDS);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+}
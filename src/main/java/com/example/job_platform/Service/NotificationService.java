@@ -1,17 +1,38 @@
 package com.example.job_platform.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.job_platform.DTO.EmailRequest;
 import com.example.job_platform.Entity.Application;
+import com.example.job_platform.Entity.InAppNotification;
 import com.example.job_platform.Entity.JobPost;
+import com.example.job_platform.Entity.NotificationCampaign;
+import com.example.job_platform.Entity.OutboxMessage;
 import com.example.job_platform.Entity.User;
+import com.example.job_platform.Enum.CampaignStatus;
+import com.example.job_platform.Enum.Role;
+import com.example.job_platform.Exception.ResourceNotFoundException;
 import com.example.job_platform.Repository.ApplicationRepository;
+import com.example.job_platform.Repository.NotificationCampaignRepository;
 import com.example.job_platform.Repository.UserRepository;
+import com.example.job_platform.Security.RequestContext;
+import com.example.job_platform.Service.NotificationTemplateService.CompiledTemplate;
+import com.example.job_platform.Service.NotificationTemplateService.Template;
 
 @Service
 public class NotificationService {
@@ -19,11 +40,57 @@ public class NotificationService {
     @Autowired
     private UserRepository userRepository;
 
+    /**
+     * How an application update is delivered. Digested updates wait in the outbox for
+     * the recipient's digest window and go out together as one summary email.
+     */
+    public enum UpdateType {
+        // Workflow status; a newer status for the same application replaces an unsent one
+        STATUS_CHANGE(true, true),
+        INTERVIEW_UPDATE(true, false),
+        // Time-sensitive, e.g. reschedules and reminders; sent immediately
+        URGENT(false, false);
+
+        private final boolean digested;
+        private final boolean superseding;
+
+        UpdateType(boolean digested, boolean superseding) {
+            this.digested = digested;
+            this.superseding = superseding;
+        }
+    }
+
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    // Emails are written to the outbox and delivered by its dispatcher
+    @Autowired
+    private NotificationOutboxService outboxService;
+
+    // Background writers for callers that shouldn't wait on the outbox insert
+    private final ExecutorService notificationExecutor = RequestContext.propagating(Executors.newFixedThreadPool(2));
+
+    @Autowired
+    private NotificationCampaignRepository campaignRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationTemplateService templateService;
+
+    // Every email-worthy update to a single user also lands in their in-app inbox
     @Autowired
-    private EmailService emailService;
+    private InAppNotificationService inAppNotificationService;
+
+    private static final String STATUS_UPDATE_TITLE = "Application Status Update";
+
+    private static final int CAMPAIGN_PAGE_SIZE = 1000;
+    private static final String CAMPAIGN_NAME_PLACEHOLDER = "{name}";
+    private static final List<String> CAMPAIGN_PARAMETERS = Collections.singletonList("name");
+
+    // Campaigns run one at a time, each streaming its recipients page by page
+    private final ExecutorService campaignExecutor = RequestContext.propagating(Executors.newSingleThreadExecutor());
 
     public void notifyJobApplication(Long jobId, Long studentId, Long recruiterId) {
         try {
@@ -32,39 +99,18 @@ public class NotificationService {
 
             if (student != null && recruiter != null) {
                 // Notify recruiter about new application
-                String recruiterSubject = "New Job Application Received";
-                String recruiterMessage = String.format(
-                        "Dear %s,\\n\\n"
-                        + "You have received a new job application from %s.\\n"
-                        + "Please log in to your dashboard to review the application.\\n\\n"
-                        + "Best regards,\\n"
-                        + "ZIDIO Connect Team",
-                        recruiter.getName(),
-                        student.getName()
-                );
-
-                EmailRequest recruiterEmail = new EmailRequest();
-                recruiterEmail.setTo(recruiter.getEmail());
-                recruiterEmail.setSubject(recruiterSubject);
-                recruiterEmail.setBody(recruiterMessage);
-                emailService.sendEmail(recruiterEmail);
+                EmailRequest recruiterEmail = templateService.renderEmail(Template.APPLICATION_RECEIVED, Locale.ROOT,
+                        recruiter.getEmail(), recruiter.getName(), student.getName());
+                outboxService.enqueue(recruiterEmail);
+                inAppNotificationService.publish(recruiter.getId(), recruiterEmail.getSubject(),
+                        "New application from " + student.getName());
 
                 // Notify student about application submission
-                String studentSubject = "Job Application Submitted Successfully";
-                String studentMessage = String.format(
-                        "Dear %s,\\n\\n"
-                        + "Your job application has been submitted successfully.\\n"
-                        + "We will notify you once the recruiter reviews your application.\\n\\n"
-                        + "Best regards,\\n"
-                        + "ZIDIO Connect Team",
-                        student.getName()
-                );
-
-                EmailRequest studentEmail = new EmailRequest();
-                studentEmail.setTo(student.getEmail());
-                studentEmail.setSubject(studentSubject);
-                studentEmail.setBody(studentMessage);
-                emailService.sendEmail(studentEmail);
+                EmailRequest studentEmail = templateService.renderEmail(Template.APPLICATION_SUBMITTED, Locale.ROOT,
+                        student.getEmail(), student.getName());
+                outboxService.enqueue(studentEmail);
+                inAppNotificationService.publish(student.getId(), studentEmail.getSubject(),
+                        "Your application has been submitted");
             }
         } catch (Exception e) {
             System.err.println("Error sending application notification: " + e.getMessage());
@@ -72,67 +118,83 @@ public class NotificationService {
     }
 
     public void notifyApplicationStatusUpdate(Long applicationId, String newStatus) {
+        notifyApplicationStatusUpdate(applicationId, newStatus, UpdateType.STATUS_CHANGE);
+    }
+
+    public void notifyApplicationStatusUpdate(Long applicationId, String newStatus, UpdateType type) {
         try {
             Application application = applicationRepository.findById(applicationId).orElse(null);
-
-            if (application != null && application.getStudent() != null) {
-                User student = application.getStudent().getUser();
-
-                if (student != null) {
-                    String subject = "Application Status Update";
-                    String message = String.format(
-                            "Dear %s,\\n\\n"
-                            + "Your job application status has been updated to: %s\\n"
-                            + "Please log in to your dashboard for more details.\\n\\n"
-                            + "Best regards,\\n"
-                            + "ZIDIO Connect Team",
-                            student.getName(),
-                            newStatus
-                    );
-
-                    EmailRequest emailRequest = new EmailRequest();
-                    emailRequest.setTo(student.getEmail());
-                    emailRequest.setSubject(subject);
-                    emailRequest.setBody(message);
-                    emailService.sendEmail(emailRequest);
-                }
+            OutboxMessage message = buildStatusUpdate(application, newStatus, type);
+            if (message != null) {
+                outboxService.enqueueMessages(Collections.singletonList(message));
+                inAppNotificationService.publish(application.getStudent().getUser().getId(),
+                        STATUS_UPDATE_TITLE, newStatus);
             }
         } catch (Exception e) {
             System.err.println("Error sending status update notification: " + e.getMessage());
         }
     }
 
+    public void notifyApplicationStatusUpdates(Map<Long, String> statusByApplication) {
+        notifyApplicationStatusUpdates(statusByApplication, UpdateType.STATUS_CHANGE);
+    }
+
+    /**
+     * Writes one status update per application to the outbox with a single lookup and
+     * batch insert. Runs in the caller's transaction, so it does not swallow failures.
+     */
+    public void notifyApplicationStatusUpdates(Map<Long, String> statusByApplication, UpdateType type) {
+        List<OutboxMessage> messages = new ArrayList<>(statusByApplication.size());
+        List<InAppNotification> inAppNotifications = new ArrayList<>(statusByApplication.size());
+        for (Application application : applicationRepository.findAllById(statusByApplication.keySet())) {
+            String newStatus = statusByApplication.get(application.getId());
+            OutboxMessage message = buildStatusUpdate(application, newStatus, type);
+            if (message != null) {
+                messages.add(message);
+                inAppNotifications.add(new InAppNotification(application.getStudent().getUser().getId(),
+                        STATUS_UPDATE_TITLE, newStatus));
+            }
+        }
+        outboxService.enqueueMessages(messages);
+        inAppNotificationService.publishAll(inAppNotifications);
+    }
+
+    private OutboxMessage buildStatusUpdate(Application application, String newStatus, UpdateType type) {
+        if (application == null || application.getStudent() == null || application.getStudent().getUser() == null) {
+            return null;
+        }
+
+        User student = application.getStudent().getUser();
+        EmailRequest email = templateService.renderEmail(Template.STATUS_UPDATE, Locale.ROOT,
+                student.getEmail(), student.getName(), newStatus);
+        OutboxMessage message = new OutboxMessage(email.getTo(), email.getSubject(), email.getBody());
+
+        if (type.digested) {
+            String job = application.getJob() != null ? application.getJob().getTitle() : "Application " + application.getId();
+            message.digestAs(job + ": " + newStatus,
+                    type.superseding ? "application-status:" + application.getId() : null);
+        }
+        return message;
+    }
+
+    public void queueApplicationStatusUpdate(Long applicationId, String newStatus) {
+        queueApplicationStatusUpdate(applicationId, newStatus, UpdateType.STATUS_CHANGE);
+    }
+
+    public void queueApplicationStatusUpdate(Long applicationId, String newStatus, UpdateType type) {
+        notificationExecutor.submit(() -> notifyApplicationStatusUpdate(applicationId, newStatus, type));
+    }
+
     public void notifyNewJobPosted(JobPost jobPost) {
         try {
             if (jobPost != null) {
-                // Get all students (would need to implement findByRole in UserRepository)
-                List<User> allUsers = userRepository.findAll();
-
-                String subject = "New Job Opportunity Available";
-                String message = String.format(
-                        "Dear Student,\\n\\n"
-                        + "A new job opportunity has been posted that might interest you:\\n\\n"
-                        + "Job Title: %s\\n"
-                        + "Company: %s\\n"
-                        + "Location: %s\\n"
-                        + "Type: %s\\n\\n"
-                        + "Log in to ZIDIO Connect to view details and apply.\\n\\n"
-                        + "Best regards,\\n"
-                        + "ZIDIO Connect Team",
+                EmailRequest email = templateService.renderEmail(Template.NEW_JOB, Locale.ROOT, null,
                         jobPost.getTitle(),
                         jobPost.getRecruiter() != null ? jobPost.getRecruiter().getCompanyName() : "N/A",
                         jobPost.getLocation(),
-                        jobPost.getType()
-                );
-
-                for (User user : allUsers) {
-                    // Only send to students (you might want to check role)
-                    EmailRequest emailRequest = new EmailRequest();
-                    emailRequest.setTo(user.getEmail());
-                    emailRequest.setSubject(subject);
-                    emailRequest.setBody(message);
-                    emailService.sendEmail(emailRequest);
-                }
+                        jobPost.getType());
+
+                startCampaign("New job: " + jobPost.getTitle(), Role.STUDENT, email.getSubject(), email.getBody());
             }
         } catch (Exception e) {
             System.err.println("Error sending new job notification: " + e.getMessage());
@@ -142,26 +204,8 @@ public class NotificationService {
     public void notifyWelcomeMessage(User user) {
         try {
             if (user != null) {
-                String subject = "Welcome to ZIDIO Connect!";
-                String message = String.format(
-                        "Dear %s,\\n\\n"
-                        + "Welcome to ZIDIO Connect - Your Gateway to Career Success!\\n\\n"
-                        + "Your account has been successfully created. You can now:\\n"
-                        + "- Browse internship and job opportunities\\n"
-                        + "- Apply to positions that match your skills\\n"
-                        + "- Track your application status\\n"
-                        + "- Connect with top recruiters\\n\\n"
-                        + "Start your journey today by logging in to your dashboard.\\n\\n"
-                        + "Best regards,\\n"
-                        + "ZIDIO Connect Team",
-                        user.getName()
-                );
-
-                EmailRequest emailRequest = new EmailRequest();
-                emailRequest.setTo(user.getEmail());
-                emailRequest.setSubject(subject);
-                emailRequest.setBody(message);
-                emailService.sendEmail(emailRequest);
+                outboxService.enqueue(templateService.renderEmail(Template.WELCOME, Locale.ROOT,
+                        user.getEmail(), user.getName()));
             }
         } catch (Exception e) {
             System.err.println("Error sending welcome notification: " + e.getMessage());
@@ -171,81 +215,117 @@ public class NotificationService {
     public void notifyPaymentConfirmation(User user, String subscriptionType, Double amount) {
         try {
             if (user != null) {
-                String subject = "Payment Confirmation - ZIDIO Connect";
-                String message = String.format(
-                        "Dear %s,\\n\\n"
-                        + "Thank you for your payment. Your transaction has been processed successfully.\\n\\n"
-                        + "Payment Details:\\n"
-                        + "Subscription: %s\\n"
-                        + "Amount: $%.2f\\n"
-                        + "Date: %s\\n\\n"
-                        + "Your premium features are now active.\\n\\n"
-                        + "Best regards,\\n"
-                        + "ZIDIO Connect Team",
-                        user.getName(),
-                        subscriptionType,
-                        amount,
-                        new Date().toString()
-                );
-
-                EmailRequest emailRequest = new EmailRequest();
-                emailRequest.setTo(user.getEmail());
-                emailRequest.setSubject(subject);
-                emailRequest.setBody(message);
-                emailService.sendEmail(emailRequest);
+                String formattedAmount = String.format("%.2f", amount);
+                EmailRequest email = templateService.renderEmail(Template.PAYMENT_CONFIRMATION, Locale.ROOT,
+                        user.getEmail(), user.getName(), subscriptionType, formattedAmount, new Date().toString());
+                outboxService.enqueue(email);
+                inAppNotificationService.publish(user.getId(), email.getSubject(),
+                        "Payment of $" + formattedAmount + " received for " + subscriptionType);
             }
         } catch (Exception e) {
             System.err.println("Error sending payment confirmation: " + e.getMessage());
         }
     }
 
-    public void sendBulkNotification(String subject, String message) {
-        try {
-            List<User> allUsers = userRepository.findAll();
-
-            for (User user : allUsers) {
-                String personalizedMessage = String.format(
-                        "Dear %s,\\n\\n%s\\n\\nBest regards,\\n"
-                        + "ZIDIO Connect Team",
-                        user.getName(),
-                        message
-                );
-
-                EmailRequest emailRequest = new EmailRequest();
-                emailRequest.setTo(user.getEmail());
-                emailRequest.setSubject(subject);
-                emailRequest.setBody(personalizedMessage);
-                emailService.sendEmail(emailRequest);
-            }
-        } catch (Exception e) {
-            System.err.println("Error sending bulk notification: " + e.getMessage());
+    // The rendered body keeps a {name} placeholder that the campaign fills per recipient
+    public NotificationCampaign sendBulkNotification(String subject, String message) {
+        return startCampaign("Bulk: " + subject, null, subject,
+                templateService.renderBody(Template.BULK_MESSAGE, Locale.ROOT, CAMPAIGN_NAME_PLACEHOLDER, message));
+    }
+
+    public NotificationCampaign notifySystemMaintenance(String maintenanceMessage) {
+        EmailRequest email = templateService.renderEmail(Template.SYSTEM_MAINTENANCE, Locale.ROOT, null,
+                CAMPAIGN_NAME_PLACEHOLDER, maintenanceMessage);
+        return startCampaign("System maintenance", null, email.getSubject(), email.getBody());
+    }
+
+    /**
+     * Starts a campaign to every user with the given role, or every user when role is
+     * null. {name} in the body is replaced per recipient. Returns immediately; progress
+     * is visible through {@link #getCampaign}.
+     */
+    public NotificationCampaign startCampaign(String name, Role targetRole, String subject, String bodyTemplate) {
+        NotificationCampaign campaign = campaignRepository.save(
+                new NotificationCampaign(name, targetRole, subject, bodyTemplate));
+        campaignExecutor.submit(() -> runCampaign(campaign.getId()));
+        return campaign;
+    }
+
+    public NotificationCampaign getCampaign(Long campaignId) {
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("NotificationCampaign", campaignId));
+    }
+
+    // Continues a failed campaign from its last committed page
+    public NotificationCampaign resumeCampaign(Long campaignId) {
+        NotificationCampaign campaign = getCampaign(campaignId);
+        if (campaign.getStatus() == CampaignStatus.FAILED) {
+            campaign.setStatus(CampaignStatus.RUNNING);
+            campaign = campaignRepository.save(campaign);
+            campaignExecutor.submit(() -> runCampaign(campaignId));
+        }
+        return campaign;
+    }
+
+    // Picks up campaigns that were interrupted by a restart
+    @PostConstruct
+    public void resumeCampaigns() {
+        for (NotificationCampaign campaign : campaignRepository.findByStatus(CampaignStatus.RUNNING)) {
+            campaignExecutor.submit(() -> runCampaign(campaign.getId()));
         }
     }
 
-    public void notifySystemMaintenance(String maintenanceMessage) {
+    @PreDestroy
+    public void shutdown() {
+        notificationExecutor.shutdown();
+        campaignExecutor.shutdownNow();
+    }
+
+    private void runCampaign(Long campaignId) {
         try {
-            List<User> allUsers = userRepository.findAll();
-
-            String subject = "System Maintenance Notification";
-
-            for (User user : allUsers) {
-                String message = String.format(
-                        "Dear %s,\\n\\n%s\\n\\n"
-                        + "We apologize for any inconvenience this may cause.\\n\\n"
-                        + "Best regards,\\n"
-                        + "ZIDIO Connect Team",
-                        user.getName(),
-                        maintenanceMessage
-                );
-
-                EmailRequest emailRequest = new EmailRequest();
-                emailRequest.setTo(user.getEmail());
-                emailRequest.setSubject(subject);
-                emailRequest.setBody(message);
-                emailService.sendEmail(emailRequest);
+            boolean morePages = true;
+            while (morePages && !Thread.currentThread().isInterrupted()) {
+                morePages = Boolean.TRUE.equals(transactionTemplate.execute(status -> enqueueNextPage(campaignId)));
             }
         } catch (Exception e) {
-            System.err.println("Error sending maintenance notification: " + e.getMessage());
+            System.err.println("Error running notification campaign " + campaignId + ": " + e.getMessage());
+            campaignRepository.findById(campaignId).ifPresent(campaign -> {
+                campaign.setStatus(CampaignStatus.FAILED);
+                campaignRepository.save(campaign);
+            });
+        }
+    }
+
+    // One page of recipients and the cursor past it commit together, so a resumed
+    // campaign neither skips nor repeats a page
+    private boolean enqueueNextPage(Long campaignId) {
+        NotificationCampaign campaign = campaignRepository.findById(campaignId).orElse(null);
+        if (campaign == null || campaign.getStatus() != CampaignStatus.RUNNING) {
+            return false;
+        }
+
+        PageRequest page = PageRequest.of(0, CAMPAIGN_PAGE_SIZE);
+        List<UserRepository.Recipient> recipients = campaign.getTargetRole() != null
+                ? userRepository.findRecipientsByRoleAfter(campaign.getTargetRole(), campaign.getLastUserId(), page)
+                : userRepository.findRecipientsAfter(campaign.getLastUserId(), page);
+
+        // Compiled once per page instead of scanning the body for every recipient
+        CompiledTemplate body = CompiledTemplate.compile(campaign.getBodyTemplate(), CAMPAIGN_PARAMETERS);
+        List<EmailRequest> emailRequests = new ArrayList<>(recipients.size());
+        for (UserRepository.Recipient recipient : recipients) {
+            emailRequests.add(new EmailRequest(recipient.getEmail(), campaign.getSubject(),
+                    body.render(recipient.getName() != null ? recipient.getName() : "User")));
+        }
+        outboxService.enqueueAll(emailRequests);
+
+        if (!recipients.isEmpty()) {
+            campaign.recordPage(recipients.get(recipients.size() - 1).getId(), recipients.size());
+        }
+        boolean morePages = recipients.size() == CAMPAIGN_PAGE_SIZE;
+        if (!morePages) {
+            campaign.setStatus(CampaignStatus.COMPLETED);
         }
+        campaignRepository.save(campaign);
+        return morePages;
     }
 }
@@ -0,0 +1,219 @@
+package com.example.job_platform.Service;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import com.example.job_platform.DTO.EmailRequest;
+
+/**
+ * Notification templates, parsed once into literal segments and parameter slots.
+ * Rendering appends the segments and argument values into a per-thread buffer,
+ * so a fan-out renders without reparsing anything and with one String per result.
+ */
+@Service
+public class NotificationTemplateService {
+
+    @Autowired
+    private LoggingService loggingService;
+
+    private static final String TEMPLATE_LOCATION = "classpath*:notification-templates*.properties";
+    private static final String TEMPLATE_FILE_PREFIX = "notification-templates";
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> RENDER_BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+
+    // Template key in the properties files and the parameters it accepts, in argument order
+    public enum Template {
+        APPLICATION_RECEIVED("application-received", "recruiterName", "studentName"),
+        APPLICATION_SUBMITTED("application-submitted", "name"),
+        STATUS_UPDATE("status-update", "name", "status"),
+        NEW_JOB("new-job", "title", "company", "location", "type"),
+        WELCOME("welcome", "name"),
+        PAYMENT_CONFIRMATION("payment-confirmation", "name", "subscription", "amount", "date"),
+        BULK_MESSAGE("bulk-message", "name", "message"),
+        SYSTEM_MAINTENANCE("system-maintenance", "name", "message"),
+        DIGEST("digest", "count", "updates");
+
+        private final String key;
+        private final List<String> parameters;
+
+        Template(String key, String... parameters) {
+            this.key = key;
+            this.parameters = Arrays.asList(parameters);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public List<String> getParameters() {
+            return parameters;
+        }
+    }
+
+    /**
+     * A template split at its placeholders: {@code literals[i]} is followed by the
+     * argument at {@code slots[i]}, and the last literal closes the text. Braces that
+     * don't name a known parameter are kept as literal text.
+     */
+    public static final class CompiledTemplate {
+
+        private final String[] literals;
+        private final int[] slots;
+
+        private CompiledTemplate(String[] literals, int[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        public static CompiledTemplate compile(String text, List<String> parameters) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+
+            int position = 0;
+            while (position < text.length()) {
+                int open = text.indexOf('{', position);
+                int close = open < 0 ? -1 : text.indexOf('}', open + 1);
+                if (close < 0) {
+                    break;
+                }
+
+                int slot = parameters.indexOf(text.substring(open + 1, close));
+                if (slot < 0) {
+                    literal.append(text, position, open + 1);
+                    position = open + 1;
+                    continue;
+                }
+                literal.append(text, position, open);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(slot);
+                position = close + 1;
+            }
+            literal.append(text, position, text.length());
+            literals.add(literal.toString());
+
+            return new CompiledTemplate(literals.toArray(new String[0]),
+                    slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        public String render(Object... arguments) {
+            StringBuilder buffer = RENDER_BUFFER.get();
+            buffer.setLength(0);
+            for (int i = 0; i < slots.length; i++) {
+                buffer.append(literals[i]).append(arguments[slots[i]]);
+            }
+            buffer.append(literals[slots.length]);
+
+            String rendered = buffer.toString();
+            // Don't let one huge message pin a large buffer to the thread forever
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                RENDER_BUFFER.set(new StringBuilder(INITIAL_BUFFER_SIZE));
+            }
+            return rendered;
+        }
+    }
+
+    private static final class CompiledEmail {
+
+        private final CompiledTemplate subject;
+        private final CompiledTemplate body;
+
+        CompiledEmail(CompiledTemplate subject, CompiledTemplate body) {
+            this.subject = subject;
+            this.body = body;
+        }
+    }
+
+    // Locale.ROOT holds the defaults every template must have
+    private final Map<Template, Map<Locale, CompiledEmail>> templates = new EnumMap<>(Template.class);
+
+    @PostConstruct
+    public void loadTemplates() throws Exception {
+        Map<Locale, Properties> sources = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION)) {
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            sources.computeIfAbsent(localeOf(resource.getFilename()), k -> new Properties()).putAll(properties);
+        }
+
+        Properties defaults = sources.getOrDefault(Locale.ROOT, new Properties());
+        for (Template template : Template.values()) {
+            if (defaults.getProperty(template.getKey() + ".body") == null) {
+                throw new IllegalStateException("Missing default notification template: " + template.getKey());
+            }
+
+            Map<Locale, CompiledEmail> variants = new HashMap<>();
+            for (Map.Entry<Locale, Properties> source : sources.entrySet()) {
+                String subject = source.getValue().getProperty(template.getKey() + ".subject",
+                        defaults.getProperty(template.getKey() + ".subject"));
+                String body = source.getValue().getProperty(template.getKey() + ".body");
+                if (body == null) {
+                    continue;
+                }
+                variants.put(source.getKey(), new CompiledEmail(
+                        subject != null ? CompiledTemplate.compile(subject, template.getParameters()) : null,
+                        CompiledTemplate.compile(body, template.getParameters())));
+            }
+            templates.put(template, variants);
+        }
+
+        loggingService.logSystemEvent("NOTIFICATION_TEMPLATES_LOADED",
+                String.format("Compiled %d templates in %d locales", templates.size(), sources.size()));
+    }
+
+    public EmailRequest renderEmail(Template template, Locale locale, String to, Object... arguments) {
+        CompiledEmail email = resolve(template, locale);
+        return new EmailRequest(to, email.subject != null ? email.subject.render(arguments) : null,
+                email.body.render(arguments));
+    }
+
+    public String renderBody(Template template, Locale locale, Object... arguments) {
+        return resolve(template, locale).body.render(arguments);
+    }
+
+    // Exact locale, then its language, then the defaults
+    private CompiledEmail resolve(Template template, Locale locale) {
+        Map<Locale, CompiledEmail> variants = templates.get(template);
+        if (locale != null) {
+            CompiledEmail email = variants.get(locale);
+            if (email == null && !locale.getCountry().isEmpty()) {
+                email = variants.get(new Locale(locale.getLanguage()));
+            }
+            if (email != null) {
+                return email;
+            }
+        }
+        return variants.get(Locale.ROOT);
+    }
+
+    // notification-templates_pt_BR.properties -> pt-BR; no suffix -> ROOT
+    private static Locale localeOf(String filename) {
+        String name = filename.substring(0, filename.length() - ".properties".length());
+        if (name.length() <= TEMPLATE_FILE_PREFIX.length() + 1) {
+            return Locale.ROOT;
+        }
+        return Locale.forLanguageTag(name.substring(TEMPLATE_FILE_PREFIX.length() + 1).replace('_', '-'));
+    }
+}
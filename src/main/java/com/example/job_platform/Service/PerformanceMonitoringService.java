@@ -11,6 +11,8 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Service;
 
+import com.example.job_platform.Security.RequestContext;
+
 @Service
 public class PerformanceMonitoringService {
 
@@ -29,6 +31,8 @@ public class PerformanceMonitoringService {
         private final boolean success;
         private final String errorMessage;
         private final String additionalInfo;
+        private final String correlationId;
+        private final String route;
 
         public PerformanceMetric(String operation, long executionTimeMs, boolean success, String errorMessage, String additionalInfo) {
             this.timestamp = LocalDateTime.now();
@@ -37,6 +41,11 @@ public class PerformanceMonitoringService {
             this.success = success;
             this.errorMessage = errorMessage;
             this.additionalInfo = additionalInfo;
+
+            // Ties the measurement to the request it was taken in
+            RequestContext context = RequestContext.current();
+            this.correlationId = context != null ? context.getCorrelationId() : null;
+            this.route = context != null ? context.getRoute() : null;
         }
 
         // Getters
@@ -63,6 +72,14 @@ public class PerformanceMonitoringService {
         public String getAdditionalInfo() {
             return additionalInfo;
         }
+
+        public String getCorrelationId() {
+            return correlationId;
+        }
+
+        public String getRoute() {
+            return route;
+        }
     }
 
     public void recordOperation(String operation, long executionTimeMs, boolean success, String errorMessage) {
@@ -91,12 +108,14 @@ public class PerformanceMonitoringService {
 
         // Log performance issues
         if (executionTimeMs > 5000) { // More than 5 seconds
-            System.out.printf("[PERFORMANCE] SLOW OPERATION: %s took %d ms at %s%n",
-                    operation, executionTimeMs, LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            System.out.printf("[PERFORMANCE] SLOW OPERATION: %s took %d ms at %s (correlation %s, %s)%n",
+                    operation, executionTimeMs, LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    metric.getCorrelationId(), metric.getRoute());
         }
 
         if (!success) {
-            System.out.printf("[PERFORMANCE] OPERATION FAILED: %s failed with error: %s%n", operation, errorMessage);
+            System.out.printf("[PERFORMANCE] OPERATION FAILED: %s failed with error: %s (correlation %s)%n",
+                    operation, errorMessage, metric.getCorrelationId());
         }
     }
 
@@ -198,6 +217,15 @@ public class PerformanceMonitoringService {
         }
     }
 
+    // Everything measured while serving one request, in the order it happened
+    public List<PerformanceMetric> getMetricsByCorrelationId(String correlationId) {
+        synchronized (recentMetrics) {
+            return recentMetrics.stream()
+                    .filter(metric -> correlationId.equals(metric.getCorrelationId()))
+                    .collect(java.util.stream.Collectors.toList());
+        }
+    }
+
     public List<PerformanceMetric> getSlowOperations(long thresholdMs, int limit) {
         synchronized (recentMetrics) {
             return recentMetrics.stream()
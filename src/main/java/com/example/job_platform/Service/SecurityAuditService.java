@@ -3,17 +3,29 @@ package com.example.job_platform.Service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.job_platform.Entity.User;
 import com.example.job_platform.Repository.UserRepository;
+import com.example.job_platform.Security.LoginFailureTracker;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 @Service
 public class SecurityAuditService {
@@ -21,14 +33,38 @@ public class SecurityAuditService {
     @Autowired
     private UserRepository userRepository;
 
-    // Track login attempts
-    private final Map<String, AtomicInteger> loginAttempts = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> lastFailedLogin = new ConcurrentHashMap<>();
-    private final List<SecurityEvent> securityEvents = new ArrayList<>();
-    private final Map<String, AtomicInteger> ipAccessCount = new ConcurrentHashMap<>();
+    @Autowired
+    private IdGenerator idGenerator;
+
+    // Most recent events kept for the queries; rounded up to a power of two
+    @Value("${app.security.event-buffer-size:1024}")
+    private int eventBufferSize = 1024;
+
+    // IP counts cover roughly the last window, with older activity fading out
+    @Value("${app.security.ip-tracking.window-minutes:10}")
+    private long ipWindowMinutes = 10;
+
+    // Emails whose failed logins are tracked for lockout at once, in a fixed table
+    @Value("${app.security.lockout.table-size:65536}")
+    private int lockoutTableSize = 65536;
+
+    // Failed logins per normalized email; entries expire with the lockout window
+    private LoginFailureTracker loginFailures = newLoginFailureTracker(65536);
+
+    private SecurityEventRing securityEvents = new SecurityEventRing(1024);
+    // Per-IP login counts in fixed memory (about 2 MB) however many addresses appear
+    private HeavyHitterTracker ipAccessCounts = newIpTracker(10);
+    // Running totals since startup, including events the ring no longer holds
+    private final LongAdder[] eventTypeCounts = newCounters(SecurityEventType.values().length);
+    private final Map<String, LongAdder> severityCounts = new ConcurrentHashMap<>();
+    private final LongAdder totalEventCount = new LongAdder();
 
     private static final int MAX_LOGIN_ATTEMPTS = 5;
     private static final int LOCKOUT_DURATION_MINUTES = 30;
+    private static final int RECENT_CRITICAL_LIMIT = 10;
+    private static final int IP_SKETCH_WIDTH = 65536;
+    // Most IPs the top-IP query can return
+    private static final int TRACKED_TOP_IPS = 100;
 
     public enum SecurityEventType {
         LOGIN_SUCCESS,
@@ -44,6 +80,7 @@ public class SecurityAuditService {
 
     public static class SecurityEvent {
 
+        private final long id;
         private final LocalDateTime timestamp;
         private final SecurityEventType eventType;
         private final String userEmail;
@@ -51,7 +88,9 @@ public class SecurityAuditService {
         private final String details;
         private final String severity;
 
-        public SecurityEvent(SecurityEventType eventType, String userEmail, String ipAddress, String details, String severity) {
+        public SecurityEvent(long id, SecurityEventType eventType, String userEmail, String ipAddress, String details,
+                             String severity) {
+            this.id = id;
             this.timestamp = LocalDateTime.now();
             this.eventType = eventType;
             this.userEmail = userEmail;
@@ -61,6 +100,12 @@ public class SecurityAuditService {
         }
 
         // Getters
+        // Rendered as a string in JSON; JavaScript numbers can't hold every 64-bit id
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public long getId() {
+            return id;
+        }
+
         public LocalDateTime getTimestamp() {
             return timestamp;
         }
@@ -86,15 +131,178 @@ public class SecurityAuditService {
         }
     }
 
+    /**
+     * The newest events in a fixed array of slots. Writers claim a sequence number with
+     * one atomic increment and publish the slot with a CAS, overwriting the event one lap
+     * older; a writer delayed until a newer lap has already published in its slot drops
+     * its event instead. Nothing blocks and the heap used is fixed however fast events
+     * arrive. Each slot also links back to the previous event of the same type and of the
+     * same user, so those queries follow a chain instead of scanning the ring. Per-user
+     * chain heads are dropped when their event is overwritten, so at most one per slot
+     * is kept.
+     */
+    static final class SecurityEventRing {
+
+        private static final long NONE = -1;
+
+        private final AtomicReferenceArray<Slot> slots;
+        private final int mask;
+        private final AtomicLong nextSequence = new AtomicLong();
+        private final AtomicLongArray typeHeads = new AtomicLongArray(SecurityEventType.values().length);
+        private final Map<String, Long> userHeads = new ConcurrentHashMap<>();
+
+        static final class Slot {
+
+            private final long sequence;
+            private final SecurityEvent event;
+            // Written before the slot is published, so readers always see them
+            private long previousOfType = NONE;
+            private long previousOfUser = NONE;
+
+            Slot(long sequence, SecurityEvent event) {
+                this.sequence = sequence;
+                this.event = event;
+            }
+        }
+
+        SecurityEventRing(int capacity) {
+            int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+            for (int i = 0; i < typeHeads.length(); i++) {
+                typeHeads.set(i, NONE);
+            }
+        }
+
+        void add(SecurityEvent event) {
+            publish(claim(event));
+        }
+
+        // Takes the next sequence and links the event into its chains; not yet visible in the ring
+        Slot claim(SecurityEvent event) {
+            Slot slot = new Slot(nextSequence.getAndIncrement(), event);
+            slot.previousOfType = typeHeads.getAndSet(event.getEventType().ordinal(), slot.sequence);
+            if (event.getUserEmail() != null) {
+                Long previous = userHeads.put(normalizeEmail(event.getUserEmail()), slot.sequence);
+                slot.previousOfUser = previous != null ? previous : NONE;
+            }
+            return slot;
+        }
+
+        void publish(Slot slot) {
+            SecurityEvent event = slot.event;
+            int index = (int) (slot.sequence & mask);
+            while (true) {
+                Slot evicted = slots.get(index);
+                if (evicted != null && evicted.sequence > slot.sequence) {
+                    // Lapped while preempted; the event is as good as overwritten already
+                    if (event.getUserEmail() != null) {
+                        userHeads.remove(normalizeEmail(event.getUserEmail()), slot.sequence);
+                    }
+                    return;
+                }
+                if (slots.compareAndSet(index, evicted, slot)) {
+                    if (evicted != null && evicted.event.getUserEmail() != null) {
+                        // Only removed if that user has logged nothing since
+                        userHeads.remove(normalizeEmail(evicted.event.getUserEmail()), evicted.sequence);
+                    }
+                    return;
+                }
+            }
+        }
+
+        int size() {
+            return (int) Math.min(nextSequence.get(), slots.length());
+        }
+
+        List<SecurityEvent> newestFirst(int limit) {
+            List<SecurityEvent> result = new ArrayList<>(Math.min(limit, size()));
+            for (long sequence = nextSequence.get() - 1; sequence >= 0 && result.size() < limit; sequence--) {
+                Slot slot = slotFor(sequence);
+                if (slot == null) {
+                    break;
+                }
+                result.add(slot.event);
+            }
+            return result;
+        }
+
+        List<SecurityEvent> newestOfType(SecurityEventType type, int limit) {
+            List<SecurityEvent> result = new ArrayList<>();
+            for (Slot slot = slotFor(typeHeads.get(type.ordinal()));
+                 slot != null && result.size() < limit; slot = slotFor(slot.previousOfType)) {
+                result.add(slot.event);
+            }
+            return result;
+        }
+
+        List<SecurityEvent> newestOfUser(String email, int limit) {
+            List<SecurityEvent> result = new ArrayList<>();
+            Long head = email != null ? userHeads.get(normalizeEmail(email)) : null;
+            for (Slot slot = head != null ? slotFor(head) : null;
+                 slot != null && result.size() < limit; slot = slotFor(slot.previousOfUser)) {
+                result.add(slot.event);
+            }
+            return result;
+        }
+
+        // Up to limit of the newest events across the given types, newest first
+        List<SecurityEvent> newestOfTypes(List<SecurityEventType> types, int limit) {
+            List<Slot> candidates = new ArrayList<>();
+            for (SecurityEventType type : types) {
+                int taken = 0;
+                for (Slot slot = slotFor(typeHeads.get(type.ordinal()));
+                     slot != null && taken < limit; slot = slotFor(slot.previousOfType), taken++) {
+                    candidates.add(slot);
+                }
+            }
+            candidates.sort((a, b) -> Long.compare(b.sequence, a.sequence));
+
+            List<SecurityEvent> result = new ArrayList<>(Math.min(limit, candidates.size()));
+            for (int i = 0; i < candidates.size() && i < limit; i++) {
+                result.add(candidates.get(i).event);
+            }
+            return result;
+        }
+
+        // The slot still holding the given sequence, or null once it has been overwritten or lapped
+        private Slot slotFor(long sequence) {
+            if (sequence < 0) {
+                return null;
+            }
+            while (true) {
+                if (sequence < nextSequence.get() - slots.length()) {
+                    // A full lap behind; if it was ever published, it's been overwritten or dropped
+                    return null;
+                }
+                Slot slot = slots.get((int) (sequence & mask));
+                if (slot != null && slot.sequence == sequence) {
+                    return slot;
+                }
+                if (slot != null && slot.sequence > sequence) {
+                    return null;
+                }
+                // Claimed but not yet published; the writer is between two statements
+                Thread.yield();
+            }
+        }
+    }
+
+    @PostConstruct
+    public void initializeEventStore() {
+        securityEvents = new SecurityEventRing(eventBufferSize);
+        ipAccessCounts = newIpTracker(ipWindowMinutes);
+        loginFailures = newLoginFailureTracker(lockoutTableSize);
+    }
+
     public void logSecurityEvent(SecurityEventType eventType, String userEmail, String ipAddress, String details) {
         String severity = determineSeverity(eventType);
-        SecurityEvent event = new SecurityEvent(eventType, userEmail, ipAddress, details, severity);
+        SecurityEvent event = new SecurityEvent(idGenerator.nextId(), eventType, userEmail, ipAddress, details, severity);
         securityEvents.add(event);
 
-        // Keep only last 1000 events to prevent memory issues
-        if (securityEvents.size() > 1000) {
-            securityEvents.remove(0);
-        }
+        eventTypeCounts[eventType.ordinal()].increment();
+        severityCounts.computeIfAbsent(severity, k -> new LongAdder()).increment();
+        totalEventCount.increment();
 
         // Log to console for immediate visibility
         System.out.printf("[SECURITY] %s - %s: %s from %s - %s%n",
@@ -103,24 +311,16 @@ public class SecurityAuditService {
     }
 
     public boolean isAccountLocked(String email) {
-        AtomicInteger attempts = loginAttempts.get(email);
-        LocalDateTime lastFailed = lastFailedLogin.get(email);
-
-        if (attempts != null && attempts.get() >= MAX_LOGIN_ATTEMPTS && lastFailed != null) {
-            return lastFailed.plusMinutes(LOCKOUT_DURATION_MINUTES).isAfter(LocalDateTime.now());
-        }
-        return false;
+        return loginFailures.isLocked(normalizeEmail(email));
     }
 
     public void recordLoginAttempt(String email, String ipAddress, boolean success) {
+        email = normalizeEmail(email);
         if (success) {
-            loginAttempts.remove(email);
-            lastFailedLogin.remove(email);
+            loginFailures.clear(email);
             logSecurityEvent(SecurityEventType.LOGIN_SUCCESS, email, ipAddress, "Successful login");
         } else {
-            AtomicInteger attempts = loginAttempts.computeIfAbsent(email, k -> new AtomicInteger(0));
-            int currentAttempts = attempts.incrementAndGet();
-            lastFailedLogin.put(email, LocalDateTime.now());
+            int currentAttempts = loginFailures.recordFailure(email);
 
             logSecurityEvent(SecurityEventType.LOGIN_FAILURE, email, ipAddress,
                     "Failed login attempt #" + currentAttempts);
@@ -132,7 +332,9 @@ public class SecurityAuditService {
         }
 
         // Track IP access patterns
-        ipAccessCount.computeIfAbsent(ipAddress, k -> new AtomicInteger(0)).incrementAndGet();
+        if (ipAddress != null) {
+            ipAccessCounts.add(ipAddress);
+        }
     }
 
     public void recordPasswordChange(String email, String ipAddress) {
@@ -160,85 +362,72 @@ public class SecurityAuditService {
 
     public void detectSuspiciousActivity(String email, String ipAddress) {
         // Check for suspicious patterns
-        AtomicInteger ipCount = ipAccessCount.get(ipAddress);
-        if (ipCount != null && ipCount.get() > 100) { // More than 100 requests from same IP
+        long ipCount = ipAddress != null ? ipAccessCounts.estimate(ipAddress) : 0;
+        if (ipCount > 100) { // More than 100 requests from same IP
             logSecurityEvent(SecurityEventType.SUSPICIOUS_ACTIVITY, email, ipAddress,
-                    "High number of requests from single IP: " + ipCount.get());
+                    "High number of requests from single IP: " + ipCount);
         }
 
         // Check for multiple failed logins
-        AtomicInteger attempts = loginAttempts.get(email);
-        if (attempts != null && attempts.get() > 3) {
+        if (email != null && loginFailures.failureCount(normalizeEmail(email)) > 3) {
             logSecurityEvent(SecurityEventType.SUSPICIOUS_ACTIVITY, email, ipAddress,
                     "Multiple failed login attempts detected");
         }
     }
 
     public List<SecurityEvent> getRecentSecurityEvents(int limit) {
-        return securityEvents.stream()
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .limit(limit)
-                .collect(java.util.stream.Collectors.toList());
+        return securityEvents.newestFirst(limit);
     }
 
     public List<SecurityEvent> getSecurityEventsByType(SecurityEventType eventType) {
-        return securityEvents.stream()
-                .filter(event -> event.getEventType() == eventType)
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .collect(java.util.stream.Collectors.toList());
+        return securityEvents.newestOfType(eventType, Integer.MAX_VALUE);
     }
 
     public List<SecurityEvent> getSecurityEventsByUser(String email) {
-        return securityEvents.stream()
-                .filter(event -> email.equals(event.getUserEmail()))
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .collect(java.util.stream.Collectors.toList());
+        return securityEvents.newestOfUser(email, Integer.MAX_VALUE);
     }
 
+    // Built from running counters and chain heads; cost grows with event types, not events
     public Map<String, Object> getSecuritySummary() {
         Map<String, Object> summary = new HashMap<>();
 
         // Count events by type
-        Map<SecurityEventType, Long> eventCounts = securityEvents.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        SecurityEvent::getEventType,
-                        java.util.stream.Collectors.counting()));
-
-        // Count locked accounts
-        long lockedAccounts = loginAttempts.entrySet().stream()
-                .filter(entry -> entry.getValue().get() >= MAX_LOGIN_ATTEMPTS)
-                .count();
-
-        // Recent high-severity events
-        List<SecurityEvent> recentCritical = securityEvents.stream()
-                .filter(event -> "HIGH".equals(event.getSeverity()) || "CRITICAL".equals(event.getSeverity()))
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .limit(10)
-                .collect(java.util.stream.Collectors.toList());
+        Map<SecurityEventType, Long> eventCounts = new EnumMap<>(SecurityEventType.class);
+        List<SecurityEventType> highSeverityTypes = new ArrayList<>();
+        for (SecurityEventType type : SecurityEventType.values()) {
+            long count = eventTypeCounts[type.ordinal()].sum();
+            if (count > 0) {
+                eventCounts.put(type, count);
+            }
+            String severity = determineSeverity(type);
+            if ("HIGH".equals(severity) || "CRITICAL".equals(severity)) {
+                highSeverityTypes.add(type);
+            }
+        }
+
+        Map<String, Long> severities = new HashMap<>();
+        severityCounts.forEach((severity, count) -> severities.put(severity, count.sum()));
 
         summary.put("eventCounts", eventCounts);
-        summary.put("lockedAccounts", lockedAccounts);
-        summary.put("totalEvents", securityEvents.size());
-        summary.put("recentCriticalEvents", recentCritical);
+        summary.put("severityCounts", severities);
+        summary.put("lockedAccounts", (long) loginFailures.lockedCount());
+        summary.put("totalEvents", totalEventCount.sum());
+        summary.put("recentCriticalEvents", securityEvents.newestOfTypes(highSeverityTypes, RECENT_CRITICAL_LIMIT));
         summary.put("topIpAddresses", getTopIpAddresses(10));
 
         return summary;
     }
 
+    // Estimated counts over the tracking window; only the heaviest IPs are tracked by address
     public Map<String, Integer> getTopIpAddresses(int limit) {
-        return ipAccessCount.entrySet().stream()
-                .sorted((a, b) -> b.getValue().get() - a.getValue().get())
-                .limit(limit)
-                .collect(java.util.stream.Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().get(),
-                        (e1, e2) -> e1,
-                        java.util.LinkedHashMap::new));
+        Map<String, Integer> topIps = new LinkedHashMap<>();
+        ipAccessCounts.top(limit).forEach((ip, count) -> topIps.put(ip, (int) Math.min(count, Integer.MAX_VALUE)));
+        return topIps;
     }
 
     public void unlockAccount(String email, String adminEmail, String ipAddress) {
-        loginAttempts.remove(email);
-        lastFailedLogin.remove(email);
+        email = normalizeEmail(email);
+        loginFailures.clear(email);
         recordAdminAction(adminEmail, ipAddress, "UNLOCK_ACCOUNT", email);
     }
 
@@ -264,9 +453,7 @@ public class SecurityAuditService {
     public void performSecurityHealthCheck() {
         try {
             // Check for accounts with too many failed attempts
-            long lockedAccountsCount = loginAttempts.entrySet().stream()
-                    .filter(entry -> entry.getValue().get() >= MAX_LOGIN_ATTEMPTS)
-                    .count();
+            long lockedAccountsCount = loginFailures.lockedCount();
 
             if (lockedAccountsCount > 10) {
                 logSecurityEvent(SecurityEventType.SUSPICIOUS_ACTIVITY, "SYSTEM", "localhost",
@@ -274,9 +461,7 @@ public class SecurityAuditService {
             }
 
             // Check for unusual IP activity
-            long suspiciousIps = ipAccessCount.entrySet().stream()
-                    .filter(entry -> entry.getValue().get() > 1000)
-                    .count();
+            long suspiciousIps = ipAccessCounts.countAbove(1000);
 
             if (suspiciousIps > 0) {
                 logSecurityEvent(SecurityEventType.SUSPICIOUS_ACTIVITY, "SYSTEM", "localhost",
@@ -289,6 +474,31 @@ public class SecurityAuditService {
         }
     }
 
+    /**
+     * The form every per-email lookup here is keyed by, so case and surrounding spaces
+     * don't split one account's attempts, lockout and events; also used for the login
+     * rate limiter's keys.
+     */
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static HeavyHitterTracker newIpTracker(long windowMinutes) {
+        return new HeavyHitterTracker(IP_SKETCH_WIDTH, TRACKED_TOP_IPS, TimeUnit.MINUTES.toMillis(windowMinutes));
+    }
+
+    private static LoginFailureTracker newLoginFailureTracker(int tableSize) {
+        return new LoginFailureTracker(MAX_LOGIN_ATTEMPTS, TimeUnit.MINUTES.toNanos(LOCKOUT_DURATION_MINUTES), tableSize);
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
     private String determineSeverity(SecurityEventType eventType) {
         switch (eventType) {
             case LOGIN_SUCCESS:
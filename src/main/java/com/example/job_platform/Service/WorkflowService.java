@@ -1,23 +1,50 @@
 package com.example.job_platform.Service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.job_platform.Entity.Application;
 import com.example.job_platform.Entity.JobPost;
 import com.example.job_platform.Entity.Student;
+import com.example.job_platform.Entity.WorkflowEvent;
+import com.example.job_platform.Entity.WorkflowSnapshot;
 import com.example.job_platform.Enum.Status;
 import com.example.job_platform.Exception.BusinessRuleException;
 import com.example.job_platform.Exception.ResourceNotFoundException;
 import com.example.job_platform.Repository.ApplicationRepository;
+import com.example.job_platform.Repository.WorkflowEventRepository;
+import com.example.job_platform.Repository.WorkflowSnapshotRepository;
+import com.example.job_platform.Security.RequestContext;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 @Service
 public class WorkflowService {
@@ -32,6 +59,35 @@ public class WorkflowService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private WorkflowEventRepository eventRepository;
+
+    @Autowired
+    private WorkflowSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    // Level-checked logger for the formatted messages below; set up in restoreWorkflowState
+    private LoggingService.LogCategory workflowLog;
+
+    private static final String UPDATE_STATUS_SQL = "UPDATE applications SET status = ? WHERE id = ?";
+    private static final String INSERT_EVENT_SQL = "INSERT INTO workflow_events "
+            + "(application_id, from_state, to_state, action, performed_by, comments, occurred_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int BULK_JOB_RETENTION_HOURS = 1;
+
+    // Bulk jobs run off the request thread; callers poll their progress by job id
+    private final ExecutorService bulkExecutor = RequestContext.propagating(Executors.newFixedThreadPool(2));
+    private final Map<Long, BulkJob> bulkJobs = new ConcurrentHashMap<>();
+
     // Track workflow states and transitions
     private final Map<Long, WorkflowState> applicationWorkflows = new ConcurrentHashMap<>();
 
@@ -66,13 +122,18 @@ public class WorkflowService {
 
         public WorkflowTransition(Long applicationId, WorkflowState fromState, WorkflowState toState,
                 WorkflowAction action, String performedBy, String comments) {
+            this(applicationId, fromState, toState, action, performedBy, comments, LocalDateTime.now());
+        }
+
+        public WorkflowTransition(Long applicationId, WorkflowState fromState, WorkflowState toState,
+                WorkflowAction action, String performedBy, String comments, LocalDateTime timestamp) {
             this.applicationId = applicationId;
             this.fromState = fromState;
             this.toState = toState;
             this.action = action;
             this.performedBy = performedBy;
             this.comments = comments;
-            this.timestamp = LocalDateTime.now();
+            this.timestamp = timestamp;
         }
 
         // Getters
@@ -105,18 +166,252 @@ public class WorkflowService {
         }
     }
 
-    private final List<WorkflowTransition> workflowHistory = new ArrayList<>();
+    public enum BulkJobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static class BulkJob {
+
+        private final long jobId;
+        private final int totalApplications;
+        private final WorkflowAction action;
+        private final LocalDateTime submittedAt;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile BulkJobStatus status;
+        private volatile LocalDateTime completedAt;
+
+        public BulkJob(long jobId, int totalApplications, WorkflowAction action) {
+            this.jobId = jobId;
+            this.totalApplications = totalApplications;
+            this.action = action;
+            this.submittedAt = LocalDateTime.now();
+            this.status = BulkJobStatus.QUEUED;
+        }
+
+        void markRunning() {
+            status = BulkJobStatus.RUNNING;
+        }
+
+        void markFinished(BulkJobStatus finalStatus) {
+            completedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        void recordSucceeded() {
+            succeeded.incrementAndGet();
+        }
+
+        void recordSkipped() {
+            skipped.incrementAndGet();
+        }
+
+        void recordFailed() {
+            failed.incrementAndGet();
+        }
+
+        // Getters
+        // Rendered as a string in JSON; JavaScript numbers can't hold every 64-bit id
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public long getJobId() {
+            return jobId;
+        }
+
+        public int getTotalApplications() {
+            return totalApplications;
+        }
+
+        public WorkflowAction getAction() {
+            return action;
+        }
+
+        public LocalDateTime getSubmittedAt() {
+            return submittedAt;
+        }
+
+        public LocalDateTime getCompletedAt() {
+            return completedAt;
+        }
+
+        public BulkJobStatus getStatus() {
+            return status;
+        }
+
+        public int getSucceeded() {
+            return succeeded.get();
+        }
+
+        public int getSkipped() {
+            return skipped.get();
+        }
+
+        public int getFailed() {
+            return failed.get();
+        }
+
+        public int getProcessed() {
+            return succeeded.get() + skipped.get() + failed.get();
+        }
+
+        public int getProgressPercent() {
+            return totalApplications == 0 ? 100 : getProcessed() * 100 / totalApplications;
+        }
+    }
+
+    // Valid state transitions, compiled once; validation only reads from it
+    private static final Map<WorkflowState, Set<WorkflowState>> DEFAULT_TRANSITIONS = buildDefaultTransitions();
+    private volatile Map<WorkflowState, Set<WorkflowState>> validTransitions = DEFAULT_TRANSITIONS;
+
+    private static final int REPLAY_PAGE_SIZE = 10000;
+    private static final int SNAPSHOT_BATCH_SIZE = 1000;
+    private static final int SNAPSHOT_INTERVAL_SECONDS = 60;
+
+    // Appends hold the read lock; a snapshot takes the write lock only to fix its checkpoint
+    private final ReadWriteLock appendLock = new ReentrantReadWriteLock();
+    private volatile Set<Long> dirtyApplications = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService snapshotScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    // Running count of applications per state, updated on every transition
+    private final Map<WorkflowState, LongAdder> stateCounts = new EnumMap<>(WorkflowState.class);
+
+    public WorkflowService() {
+        // Populate every key up front so the map is never structurally modified afterwards
+        for (WorkflowState state : WorkflowState.values()) {
+            stateCounts.put(state, new LongAdder());
+        }
+    }
+
+    // Optional override of the default pipeline, e.g. for a company with its own stages
+    @Value("${app.workflow.transitions:}")
+    public void setTransitionConfiguration(String configuration) {
+        validTransitions = configuration == null || configuration.trim().isEmpty()
+                ? DEFAULT_TRANSITIONS
+                : parseTransitions(configuration);
+    }
+
+    @PostConstruct
+    public void restoreWorkflowState() {
+        workflowLog = loggingService.category("workflow");
+        long startTime = System.currentTimeMillis();
+
+        // Current state = last snapshot + every event written after its checkpoint
+        long lastEventId = snapshotRepository.findCheckpoint();
+        long snapshotCount = 0;
+        for (WorkflowSnapshot snapshot : snapshotRepository.findAll()) {
+            applicationWorkflows.put(snapshot.getApplicationId(), WorkflowState.valueOf(snapshot.getState()));
+            snapshotCount++;
+        }
+
+        long replayedEvents = 0;
+        List<WorkflowEvent> page;
+        do {
+            page = eventRepository.findByIdGreaterThanOrderByIdAsc(lastEventId, PageRequest.of(0, REPLAY_PAGE_SIZE));
+            for (WorkflowEvent event : page) {
+                applicationWorkflows.put(event.getApplicationId(), WorkflowState.valueOf(event.getToState()));
+                dirtyApplications.add(event.getApplicationId());
+                lastEventId = event.getId();
+            }
+            replayedEvents += page.size();
+        } while (page.size() == REPLAY_PAGE_SIZE);
+
+        for (WorkflowState state : applicationWorkflows.values()) {
+            stateCounts.get(state).increment();
+        }
+
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotWorkflowState,
+                SNAPSHOT_INTERVAL_SECONDS, SNAPSHOT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        loggingService.logSystemEvent("WORKFLOW_STATE_RESTORED",
+                String.format("Loaded %d snapshots and replayed %d events in %d ms",
+                        snapshotCount, replayedEvents, System.currentTimeMillis() - startTime));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotScheduler.shutdown();
+        bulkExecutor.shutdown();
+        snapshotWorkflowState();
+    }
+
+    // Runs on the snapshot scheduler, which stops for good if this ever throws; failures are logged
+    public void snapshotWorkflowState() {
+        Set<Long> applicationIds = null;
+        try {
+            Map<Long, WorkflowState> states = new HashMap<>();
+            long checkpoint;
+
+            appendLock.writeLock().lock();
+            try {
+                // No append is in flight, so memory holds exactly the committed states up to the
+                // checkpoint; copy them now, before later transitions change memory again
+                checkpoint = eventRepository.findMaxId();
+                applicationIds = dirtyApplications;
+                dirtyApplications = ConcurrentHashMap.newKeySet();
+                for (Long applicationId : applicationIds) {
+                    WorkflowState state = applicationWorkflows.get(applicationId);
+                    if (state != null) {
+                        states.put(applicationId, state);
+                    }
+                }
+            } finally {
+                appendLock.writeLock().unlock();
+            }
+
+            if (states.isEmpty()) {
+                return;
+            }
+
+            // All-or-nothing, otherwise the checkpoint could skip past unsaved applications
+            transactionTemplate.executeWithoutResult(status -> {
+                List<WorkflowSnapshot> batch = new ArrayList<>(SNAPSHOT_BATCH_SIZE);
+                for (Map.Entry<Long, WorkflowState> entry : states.entrySet()) {
+                    batch.add(new WorkflowSnapshot(entry.getKey(), entry.getValue().name(), checkpoint));
+                    if (batch.size() == SNAPSHOT_BATCH_SIZE) {
+                        snapshotRepository.saveAll(batch);
+                        batch.clear();
+                    }
+                }
+                snapshotRepository.saveAll(batch);
+            });
+
+        } catch (Exception e) {
+            // Put back what was taken so the next run snapshots it
+            if (applicationIds != null) {
+                dirtyApplications.addAll(applicationIds);
+            }
+            loggingService.error("Failed to snapshot workflow state", e);
+        }
+    }
+
+    private void appendEvent(Long applicationId, WorkflowState fromState, WorkflowState toState,
+            WorkflowAction action, String performedBy, String comments) {
+        appendLock.readLock().lock();
+        try {
+            eventRepository.save(new WorkflowEvent(applicationId,
+                    fromState != null ? fromState.name() : null, toState.name(),
+                    action != null ? action.name() : null, performedBy, comments, LocalDateTime.now()));
+            dirtyApplications.add(applicationId);
+        } finally {
+            appendLock.readLock().unlock();
+        }
+    }
 
     public void initiateApplicationWorkflow(Long applicationId) {
         try {
             Application application = applicationRepository.findById(applicationId)
                     .orElseThrow(() -> new ResourceNotFoundException("Application", applicationId));
 
-            applicationWorkflows.put(applicationId, WorkflowState.INITIAL_REVIEW);
+            WorkflowState previousState = applicationWorkflows.put(applicationId, WorkflowState.INITIAL_REVIEW);
+            appendEvent(applicationId, previousState, WorkflowState.INITIAL_REVIEW, null, "SYSTEM", "Workflow initiated");
+            updateStateCounts(previousState, WorkflowState.INITIAL_REVIEW);
 
             // Use application context for enhanced logging
-            loggingService.logUserAction("SYSTEM", "WORKFLOW_INITIATED",
-                    "Application workflow initiated for application ID: " + applicationId
+            workflowLog.logUserAction("SYSTEM", "WORKFLOW_INITIATED",
+                    () -> "Application workflow initiated for application ID: " + applicationId
                     + " (Job: " + application.getJob().getId() + ", Student: " + application.getStudent().getId() + ")");
 
             // Auto-perform initial checks
@@ -172,23 +467,35 @@ public class WorkflowService {
                         String.format("Invalid workflow transition from %s to %s", currentState, newState));
             }
 
-            // Update workflow state
-            applicationWorkflows.put(applicationId, newState);
-
-            // Record transition
-            WorkflowTransition transition = new WorkflowTransition(
-                    applicationId, currentState, newState, action, performedBy, comments);
-            workflowHistory.add(transition);
+            // The read lock spans the in-memory update and the commit, so a snapshot never
+            // sees a state whose event hasn't committed
+            appendLock.readLock().lock();
+            try {
+                // Update workflow state; fails if another request moved the application meanwhile
+                if (!applicationWorkflows.replace(applicationId, currentState, newState)) {
+                    throw new BusinessRuleException("Concurrent workflow update for application: " + applicationId);
+                }
 
-            // Update application status in database
-            updateApplicationStatus(applicationId, newState);
+                // The status row, the transition and its notification commit together (outbox pattern)
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        updateApplicationStatus(applicationId, newState);
+                        appendEvent(applicationId, currentState, newState, action, performedBy, comments);
+                        sendWorkflowNotifications(applicationId, newState, performedBy);
+                    });
+                } catch (Exception e) {
+                    applicationWorkflows.replace(applicationId, newState, currentState);
+                    dirtyApplications.add(applicationId);
+                    throw e;
+                }
+            } finally {
+                appendLock.readLock().unlock();
+            }
+            updateStateCounts(currentState, newState);
 
             // Log the transition
-            loggingService.logUserAction(performedBy, "WORKFLOW_TRANSITION",
-                    String.format("Application %d moved from %s to %s", applicationId, currentState, newState));
-
-            // Send notifications
-            sendWorkflowNotifications(applicationId, newState, performedBy);
+            workflowLog.logUserAction(performedBy, "WORKFLOW_TRANSITION",
+                    () -> String.format("Application %d moved from %s to %s", applicationId, currentState, newState));
 
         } catch (Exception e) {
             loggingService.error("Failed to move application to new state", e);
@@ -196,59 +503,93 @@ public class WorkflowService {
         }
     }
 
+    private void updateStateCounts(WorkflowState fromState, WorkflowState toState) {
+        if (fromState != null) {
+            stateCounts.get(fromState).decrement();
+        }
+        stateCounts.get(toState).increment();
+    }
+
     private boolean isValidTransition(WorkflowState fromState, WorkflowState toState) {
-        // Define valid state transitions
-        Map<WorkflowState, List<WorkflowState>> validTransitions = new HashMap<>();
+        Set<WorkflowState> allowedTargets = validTransitions.get(fromState);
+        return allowedTargets != null && allowedTargets.contains(toState);
+    }
+
+    private static Map<WorkflowState, Set<WorkflowState>> buildDefaultTransitions() {
+        Map<WorkflowState, Set<WorkflowState>> transitions = new EnumMap<>(WorkflowState.class);
 
-        validTransitions.put(WorkflowState.INITIAL_REVIEW,
-                Arrays.asList(WorkflowState.TECHNICAL_SCREENING, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
+        transitions.put(WorkflowState.INITIAL_REVIEW,
+                EnumSet.of(WorkflowState.TECHNICAL_SCREENING, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
 
-        validTransitions.put(WorkflowState.TECHNICAL_SCREENING,
-                Arrays.asList(WorkflowState.HR_INTERVIEW, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
+        transitions.put(WorkflowState.TECHNICAL_SCREENING,
+                EnumSet.of(WorkflowState.HR_INTERVIEW, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
 
-        validTransitions.put(WorkflowState.HR_INTERVIEW,
-                Arrays.asList(WorkflowState.TECHNICAL_INTERVIEW, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
+        transitions.put(WorkflowState.HR_INTERVIEW,
+                EnumSet.of(WorkflowState.TECHNICAL_INTERVIEW, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
 
-        validTransitions.put(WorkflowState.TECHNICAL_INTERVIEW,
-                Arrays.asList(WorkflowState.FINAL_REVIEW, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
+        transitions.put(WorkflowState.TECHNICAL_INTERVIEW,
+                EnumSet.of(WorkflowState.FINAL_REVIEW, WorkflowState.REJECTED, WorkflowState.ON_HOLD));
 
-        validTransitions.put(WorkflowState.FINAL_REVIEW,
-                Arrays.asList(WorkflowState.APPROVED, WorkflowState.REJECTED));
+        transitions.put(WorkflowState.FINAL_REVIEW,
+                EnumSet.of(WorkflowState.APPROVED, WorkflowState.REJECTED));
 
-        validTransitions.put(WorkflowState.ON_HOLD,
-                Arrays.asList(WorkflowState.TECHNICAL_SCREENING, WorkflowState.HR_INTERVIEW,
+        transitions.put(WorkflowState.ON_HOLD,
+                EnumSet.of(WorkflowState.TECHNICAL_SCREENING, WorkflowState.HR_INTERVIEW,
                         WorkflowState.TECHNICAL_INTERVIEW, WorkflowState.FINAL_REVIEW, WorkflowState.REJECTED));
 
-        return validTransitions.getOrDefault(fromState, new ArrayList<>()).contains(toState);
+        return Collections.unmodifiableMap(transitions);
     }
 
-    private void updateApplicationStatus(Long applicationId, WorkflowState workflowState) {
-        try {
-            Application application = applicationRepository.findById(applicationId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Application", applicationId));
+    /**
+     * Parses a transition table of the form
+     * {@code INITIAL_REVIEW=TECHNICAL_SCREENING|REJECTED;FINAL_REVIEW=APPROVED|REJECTED}.
+     * States without an entry have no outgoing transitions.
+     */
+    static Map<WorkflowState, Set<WorkflowState>> parseTransitions(String configuration) {
+        Map<WorkflowState, Set<WorkflowState>> transitions = new EnumMap<>(WorkflowState.class);
+
+        for (String rule : configuration.split(";")) {
+            if (rule.trim().isEmpty()) {
+                continue;
+            }
 
-            // Map workflow states to application statuses
-            Status newStatus;
-            switch (workflowState) {
-                case APPROVED:
-                    newStatus = Status.SELECTED;
-                    break;
-                case REJECTED:
-                    newStatus = Status.REJECTED;
-                    break;
-                case ON_HOLD:
-                    newStatus = Status.APPLIED;
-                    break;
-                default:
-                    newStatus = Status.SHORTLIST;
-                    break;
+            String[] parts = rule.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workflow transition rule: " + rule);
+            }
+
+            Set<WorkflowState> targets = EnumSet.noneOf(WorkflowState.class);
+            for (String target : parts[1].split("\\|")) {
+                if (!target.trim().isEmpty()) {
+                    targets.add(WorkflowState.valueOf(target.trim()));
+                }
             }
+            transitions.put(WorkflowState.valueOf(parts[0].trim()), targets);
+        }
 
-            application.setStatus(newStatus);
-            applicationRepository.save(application);
+        return Collections.unmodifiableMap(transitions);
+    }
 
-        } catch (Exception e) {
-            loggingService.error("Failed to update application status in database", e);
+    // Runs inside the transition's transaction; a failure rolls the whole transition back
+    private void updateApplicationStatus(Long applicationId, WorkflowState workflowState) {
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application", applicationId));
+
+        application.setStatus(toApplicationStatus(workflowState));
+        applicationRepository.save(application);
+    }
+
+    // Map workflow states to application statuses
+    private static Status toApplicationStatus(WorkflowState workflowState) {
+        switch (workflowState) {
+            case APPROVED:
+                return Status.SELECTED;
+            case REJECTED:
+                return Status.REJECTED;
+            case ON_HOLD:
+                return Status.APPLIED;
+            default:
+                return Status.SHORTLIST;
         }
     }
 
@@ -330,41 +671,160 @@ public class WorkflowService {
     }
 
     public List<WorkflowTransition> getWorkflowHistory(Long applicationId) {
-        return workflowHistory.stream()
-                .filter(transition -> transition.getApplicationId().equals(applicationId))
-                .collect(java.util.stream.Collectors.toList());
+        List<WorkflowEvent> events = eventRepository.findByApplicationIdOrderByIdAsc(applicationId);
+        List<WorkflowTransition> history = new ArrayList<>(events.size());
+
+        for (WorkflowEvent event : events) {
+            history.add(new WorkflowTransition(
+                    event.getApplicationId(),
+                    event.getFromState() != null ? WorkflowState.valueOf(event.getFromState()) : null,
+                    WorkflowState.valueOf(event.getToState()),
+                    event.getAction() != null ? WorkflowAction.valueOf(event.getAction()) : null,
+                    event.getPerformedBy(),
+                    event.getComments(),
+                    event.getOccurredAt()));
+        }
+
+        return history;
     }
 
     public Map<WorkflowState, Long> getWorkflowStatistics() {
-        Map<WorkflowState, Long> stats = new HashMap<>();
+        Map<WorkflowState, Long> stats = new EnumMap<>(WorkflowState.class);
 
-        for (WorkflowState state : WorkflowState.values()) {
-            long count = applicationWorkflows.values().stream()
-                    .filter(s -> s == state)
-                    .count();
-            stats.put(state, count);
+        for (Map.Entry<WorkflowState, LongAdder> entry : stateCounts.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().sum());
         }
 
         return stats;
     }
 
-    public void bulkProcessApplications(List<Long> applicationIds, WorkflowAction action,
+    public BulkJob submitBulkProcess(List<Long> applicationIds, WorkflowAction action,
             String performedBy, String comments) {
-        for (Long applicationId : applicationIds) {
-            try {
-                WorkflowState currentState = getCurrentState(applicationId);
-                if (currentState != null) {
-                    WorkflowState nextState = determineNextState(currentState, action);
-                    if (nextState != null) {
-                        moveToState(applicationId, nextState, action, performedBy, comments);
-                    }
-                }
-            } catch (Exception e) {
-                loggingService.error("Failed to process application in bulk: " + applicationId, e);
+        purgeFinishedBulkJobs();
+
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        BulkJob job = new BulkJob(idGenerator.nextId(), uniqueIds.size(), action);
+        bulkJobs.put(job.getJobId(), job);
+
+        bulkExecutor.submit(() -> runBulkJob(job, uniqueIds, action, performedBy, comments));
+        return job;
+    }
+
+    public BulkJob getBulkJob(long jobId) {
+        return bulkJobs.get(jobId);
+    }
+
+    private void runBulkJob(BulkJob job, List<Long> applicationIds, WorkflowAction action,
+            String performedBy, String comments) {
+        job.markRunning();
+        try {
+            // One query for the whole batch instead of two lookups per application
+            Set<Long> existingIds = new HashSet<>();
+            for (Application application : applicationRepository.findAllById(applicationIds)) {
+                existingIds.add(application.getId());
+            }
+
+            for (int start = 0; start < applicationIds.size(); start += BULK_CHUNK_SIZE) {
+                List<Long> chunk = applicationIds.subList(start, Math.min(start + BULK_CHUNK_SIZE, applicationIds.size()));
+                processBulkChunk(job, chunk, existingIds, action, performedBy, comments);
             }
+
+            job.markFinished(BulkJobStatus.COMPLETED);
+            workflowLog.logUserAction(performedBy, "BULK_WORKFLOW_PROCESS",
+                    () -> String.format("Bulk job %s finished: %d succeeded, %d skipped, %d failed",
+                            job.getJobId(), job.getSucceeded(), job.getSkipped(), job.getFailed()));
+
+        } catch (Exception e) {
+            job.markFinished(BulkJobStatus.FAILED);
+            loggingService.error("Failed to run bulk workflow job: " + job.getJobId(), e);
+        }
+    }
+
+    private void processBulkChunk(BulkJob job, List<Long> chunk, Set<Long> existingIds, WorkflowAction action,
+            String performedBy, String comments) {
+        // Held from the first claim to the commit, like moveToState, so a snapshot can't persist a
+        // claimed state whose event hasn't committed
+        appendLock.readLock().lock();
+        try {
+            claimAndPersistChunk(job, chunk, existingIds, action, performedBy, comments);
+        } finally {
+            appendLock.readLock().unlock();
         }
     }
 
+    private void claimAndPersistChunk(BulkJob job, List<Long> chunk, Set<Long> existingIds, WorkflowAction action,
+            String performedBy, String comments) {
+        List<WorkflowTransition> transitions = new ArrayList<>(chunk.size());
+
+        // Validate and claim every transition in memory before touching the database
+        for (Long applicationId : chunk) {
+            WorkflowState currentState = applicationWorkflows.get(applicationId);
+            WorkflowState nextState = currentState != null ? determineNextState(currentState, action) : null;
+
+            if (!existingIds.contains(applicationId) || nextState == null
+                    || !isValidTransition(currentState, nextState)) {
+                job.recordSkipped();
+                continue;
+            }
+            if (!applicationWorkflows.replace(applicationId, currentState, nextState)) {
+                job.recordFailed();
+                continue;
+            }
+            transitions.add(new WorkflowTransition(applicationId, currentState, nextState, action, performedBy, comments));
+        }
+
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object[]> statusArgs = new ArrayList<>(transitions.size());
+            List<Object[]> eventArgs = new ArrayList<>(transitions.size());
+            for (WorkflowTransition transition : transitions) {
+                statusArgs.add(new Object[]{toApplicationStatus(transition.getToState()).name(), transition.getApplicationId()});
+                eventArgs.add(new Object[]{transition.getApplicationId(), transition.getFromState().name(),
+                    transition.getToState().name(), transition.getAction().name(), transition.getPerformedBy(),
+                    transition.getComments(), Timestamp.valueOf(transition.getTimestamp())});
+            }
+
+            Map<Long, String> statusMessages = new HashMap<>();
+            for (WorkflowTransition transition : transitions) {
+                statusMessages.put(transition.getApplicationId(), getStatusMessage(transition.getToState()));
+            }
+
+            // Status rows, their events and the outbox notifications commit together
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, statusArgs);
+                jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, eventArgs);
+                notificationService.notifyApplicationStatusUpdates(statusMessages);
+            });
+
+            for (WorkflowTransition transition : transitions) {
+                dirtyApplications.add(transition.getApplicationId());
+            }
+
+        } catch (Exception e) {
+            // Put the claimed states back so memory keeps matching the database
+            for (WorkflowTransition transition : transitions) {
+                applicationWorkflows.replace(transition.getApplicationId(), transition.getToState(), transition.getFromState());
+                dirtyApplications.add(transition.getApplicationId());
+                job.recordFailed();
+            }
+            loggingService.error("Failed to persist bulk workflow chunk for job: " + job.getJobId(), e);
+            return;
+        }
+
+        for (WorkflowTransition transition : transitions) {
+            updateStateCounts(transition.getFromState(), transition.getToState());
+            job.recordSucceeded();
+        }
+    }
+
+    private void purgeFinishedBulkJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(BULK_JOB_RETENTION_HOURS);
+        bulkJobs.values().removeIf(job -> job.getCompletedAt() != null && job.getCompletedAt().isBefore(cutoff));
+    }
+
     private WorkflowState determineNextState(WorkflowState currentState, WorkflowAction action) {
         switch (action) {
             case APPROVE:
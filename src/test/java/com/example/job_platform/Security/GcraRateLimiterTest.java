@@ -0,0 +1,102 @@
+package com.example.job_platform.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GcraRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // Any origin works; like System.nanoTime, only differences between times matter
+    private static final long START = TimeUnit.DAYS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRejectsUntilNextEmission() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3, 1024);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("a@example.com", START));
+        }
+        assertEquals(SECOND, limiter.tryAcquire("a@example.com", START));
+        // Other keys have their own allowance
+        assertEquals(0, limiter.tryAcquire("b@example.com", START));
+    }
+
+    @Test
+    void rejectedAttemptsUseNothing() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 1, 1024);
+
+        assertEquals(0, limiter.tryAcquire("key", START));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(SECOND / 2, limiter.tryAcquire("key", START + SECOND / 2));
+        }
+        assertEquals(0, limiter.tryAcquire("key", START + SECOND));
+    }
+
+    @Test
+    void refillsOneEmissionIntervalAtATime() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3, 1024);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("key", START);
+        }
+
+        // One second restores one attempt
+        assertEquals(0, limiter.tryAcquire("key", START + SECOND));
+        assertTrue(limiter.tryAcquire("key", START + SECOND) > 0);
+
+        // Long enough idle restores the whole burst, and no more
+        long later = START + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("key", later));
+        }
+        assertEquals(SECOND, limiter.tryAcquire("key", later));
+    }
+
+    @Test
+    void resetRestoresFullAllowance() {
+        GcraRateLimiter limiter = new GcraRateLimiter(5, 1, 1024);
+        assertEquals(0, limiter.tryAcquire("key"));
+        assertTrue(limiter.tryAcquire("key") > 0);
+
+        limiter.reset("key");
+        assertEquals(0, limiter.tryAcquire("key"));
+    }
+
+    @Test
+    void evictsEntryClosestToExpiringWhenFull() {
+        // 16 shards of 8 slots; one probe covers a whole shard
+        GcraRateLimiter limiter = new GcraRateLimiter(1, 1, 128);
+        assertEquals(0, limiter.tryAcquire("victim", START));
+        assertTrue(limiter.tryAcquire("victim", START) > 0);
+
+        // Newer keys fill every shard; the victim has the earliest arrival, so it goes first
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i, START + 1 + i);
+        }
+
+        assertEquals(0, limiter.tryAcquire("victim", START + 20_000));
+    }
+
+    @Test
+    void reusesExpiredSlotsBeforeEvicting() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 1, 128);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("old-" + i, START);
+        }
+
+        // Every old entry has expired, so a new key takes a free slot and keeps it
+        long later = START + 2 * SECOND;
+        assertEquals(0, limiter.tryAcquire("fresh", later));
+        assertEquals(SECOND, limiter.tryAcquire("fresh", later));
+    }
+
+    @Test
+    void rejectsNonPositiveRateOrBurst() {
+        assertThrows(IllegalArgumentException.class, () -> new GcraRateLimiter(0, 1, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new GcraRateLimiter(60, 0, 1024));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.job_platform.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LoginFailureTrackerTest {
+
+    private static final long LOCKOUT = TimeUnit.MINUTES.toNanos(30);
+    private static final long START = TimeUnit.DAYS.toNanos(1);
+
+    @Test
+    void locksAtTheLimit() {
+        LoginFailureTracker tracker = new LoginFailureTracker(5, LOCKOUT, 1024);
+        for (int i = 1; i < 5; i++) {
+            assertEquals(i, tracker.recordFailure("a@example.com", START));
+            assertFalse(tracker.isLocked("a@example.com", START));
+        }
+        assertEquals(5, tracker.recordFailure("a@example.com", START));
+        assertTrue(tracker.isLocked("a@example.com", START));
+        assertFalse(tracker.isLocked("b@example.com", START));
+        assertEquals(1, tracker.lockedCount(START));
+    }
+
+    @Test
+    void lockExpiresAndCountingStartsOver() {
+        LoginFailureTracker tracker = new LoginFailureTracker(5, LOCKOUT, 1024);
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("a@example.com", START);
+        }
+
+        // Failures while locked don't extend it
+        tracker.recordFailure("a@example.com", START + LOCKOUT - 1);
+        assertTrue(tracker.isLocked("a@example.com", START + LOCKOUT - 1));
+
+        long after = START + LOCKOUT;
+        assertFalse(tracker.isLocked("a@example.com", after));
+        assertEquals(0, tracker.lockedCount(after));
+        // One more failure after the lock is a first failure, not a new lock
+        assertEquals(1, tracker.recordFailure("a@example.com", after));
+        assertFalse(tracker.isLocked("a@example.com", after));
+    }
+
+    @Test
+    void failuresSpreadBeyondTheWindowNeverLock() {
+        LoginFailureTracker tracker = new LoginFailureTracker(5, LOCKOUT, 1024);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(1, tracker.recordFailure("a@example.com", START + i * LOCKOUT));
+        }
+        assertFalse(tracker.isLocked("a@example.com", START + 20 * LOCKOUT));
+    }
+
+    @Test
+    void clearLiftsTheLock() {
+        LoginFailureTracker tracker = new LoginFailureTracker(1, LOCKOUT, 1024);
+        tracker.recordFailure("a@example.com");
+        assertTrue(tracker.isLocked("a@example.com"));
+
+        tracker.clear("a@example.com");
+        assertFalse(tracker.isLocked("a@example.com"));
+        assertEquals(0, tracker.failureCount("a@example.com"));
+    }
+
+    @Test
+    void memoryStaysFixedUnderManyDistinctKeys() {
+        // 16 shards of 8 slots
+        LoginFailureTracker tracker = new LoginFailureTracker(1, LOCKOUT, 128);
+        for (int i = 0; i < 100_000; i++) {
+            tracker.recordFailure("user" + i + "@example.com", START + i);
+        }
+
+        // Only the table's worth of keys can be locked, and they are the newest
+        assertEquals(128, tracker.lockedCount(START + 100_000));
+        assertTrue(tracker.isLocked("user99999@example.com", START + 100_000));
+        assertFalse(tracker.isLocked("user0@example.com", START + 100_000));
+    }
+}
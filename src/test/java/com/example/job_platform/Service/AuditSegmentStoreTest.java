@@ -0,0 +1,151 @@
+package com.example.job_platform.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditSegmentStoreTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+    private static final long RETENTION_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverDropsRecordWithBadChecksum() throws IOException {
+        writeEntries(1, 2, 3);
+        int third = recordOffset(2);
+
+        // Flip a payload byte of the last record, as if its body was only partly written
+        try (FileChannel channel = openSegment()) {
+            ByteBuffer payload = ByteBuffer.allocate(1);
+            channel.read(payload, third + 20);
+            payload.put(0, (byte) ~payload.get(0));
+            channel.write(payload.rewind(), third + 20);
+        }
+
+        assertEquals(List.of(1L, 2L), recoverIds());
+    }
+
+    @Test
+    void recoverIgnoresBodyWrittenWithoutLength() throws IOException {
+        writeEntries(1, 2);
+        int end = recordOffset(2);
+
+        // The body lands before the length, so a crash between them leaves a zero length
+        try (FileChannel channel = openSegment()) {
+            ByteBuffer garbage = ByteBuffer.allocate(64);
+            while (garbage.hasRemaining()) {
+                garbage.put((byte) 0x5a);
+            }
+            garbage.putInt(0, 0);
+            channel.write(garbage.flip(), end);
+        }
+
+        assertEquals(List.of(1L, 2L), recoverIds());
+    }
+
+    @Test
+    void recoveryClearsRecordsPastTheTear() throws IOException {
+        // Pages can reach disk out of order, leaving an intact record after a torn one
+        writeEntries(1, 2, 3, 4);
+        int third = recordOffset(2);
+
+        try (FileChannel channel = openSegment()) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), third + 12);
+        }
+
+        AuditSegmentStore store = new AuditSegmentStore(directory, SEGMENT_SIZE, RETENTION_MILLIS);
+        assertEquals(List.of(1L, 2L), store.recover(100).stream()
+                .map(AuditService.AuditEntry::getId).collect(Collectors.toList()));
+        // The same size as the torn record, so the stale fourth record would follow it exactly
+        store.append(entry(5, "details for entry 5"));
+        store.close();
+
+        assertEquals(List.of(1L, 2L, 5L), recoverIds());
+    }
+
+    @Test
+    void rangeQueryKeepsRecordsAroundAnEarlierStamp() throws IOException {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 12, 0);
+        int sampled = 2 * AuditSegmentIndex.SAMPLE_INTERVAL;
+
+        AuditSegmentStore store = new AuditSegmentStore(directory, SEGMENT_SIZE, RETENTION_MILLIS);
+        store.recover(0);
+        for (int i = 0; i < 4 * AuditSegmentIndex.SAMPLE_INTERVAL; i++) {
+            // One entry on a sample boundary was stamped an hour early, as after a DST change
+            LocalDateTime timestamp = i == sampled ? base.minusHours(1) : base.plusSeconds(i);
+            store.append(new AuditService.AuditEntry(i, "USER_ACTION", "user@example.com", "LOGIN", "details",
+                    timestamp));
+        }
+
+        long from = millis(base.plusSeconds(sampled - 20));
+        long to = millis(base.plusSeconds(sampled + 20));
+        List<Long> ids = store.query(null, null, from, to, 100).stream()
+                .map(AuditService.AuditEntry::getId).sorted().collect(Collectors.toList());
+        store.close();
+
+        assertEquals(LongStream.rangeClosed(sampled - 20, sampled + 20).boxed().collect(Collectors.toList()), ids);
+    }
+
+    private void writeEntries(long... ids) throws IOException {
+        AuditSegmentStore store = new AuditSegmentStore(directory, SEGMENT_SIZE, RETENTION_MILLIS);
+        store.recover(0);
+        for (long id : ids) {
+            store.append(entry(id, "details for entry " + id));
+        }
+        store.close();
+    }
+
+    private List<Long> recoverIds() throws IOException {
+        AuditSegmentStore store = new AuditSegmentStore(directory, SEGMENT_SIZE, RETENTION_MILLIS);
+        try {
+            return store.recover(100).stream().map(AuditService.AuditEntry::getId).collect(Collectors.toList());
+        } finally {
+            store.close();
+        }
+    }
+
+    // Where the record with the given position in the segment starts, following the length prefixes
+    private int recordOffset(int position) throws IOException {
+        try (FileChannel channel = openSegment()) {
+            int offset = 0;
+            ByteBuffer length = ByteBuffer.allocate(4);
+            for (int i = 0; i < position; i++) {
+                length.clear();
+                channel.read(length, offset);
+                offset += 8 + length.getInt(0);
+            }
+            return offset;
+        }
+    }
+
+    private FileChannel openSegment() throws IOException {
+        AuditSegmentStore store = new AuditSegmentStore(directory, SEGMENT_SIZE, RETENTION_MILLIS);
+        Path segment = store.listSegments().get(0);
+        return FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static long millis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static AuditService.AuditEntry entry(long id, String details) {
+        return new AuditService.AuditEntry(id, "USER_ACTION", "user@example.com", "LOGIN", details,
+                LocalDateTime.now());
+    }
+}
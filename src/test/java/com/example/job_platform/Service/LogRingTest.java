@@ -0,0 +1,46 @@
+package com.example.job_platform.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.job_platform.Service.LoggingService.LogRing;
+
+class LogRingTest {
+
+    @Test
+    void reportsFullWithoutBlocking() {
+        LogRing ring = new LogRing(2);
+        assertEquals(0, ring.claim());
+        assertEquals(1, ring.claim());
+        assertEquals(LogRing.FULL, ring.claim());
+    }
+
+    @Test
+    void retiredRingRefusesClaimsButKeepsClaimedSlots() {
+        LogRing ring = new LogRing(4);
+        long published = ring.claim();
+        ring.publish(published);
+        // Claimed before the swap, published after it
+        long inFlight = ring.claim();
+
+        ring.retire();
+        assertEquals(LogRing.RETIRED, ring.claim());
+        assertFalse(ring.isEmpty());
+
+        assertNotNull(ring.peek());
+        ring.release();
+        assertNull(ring.peek());
+        assertFalse(ring.isEmpty());
+
+        ring.publish(inFlight);
+        assertNotNull(ring.peek());
+        ring.release();
+        assertTrue(ring.isEmpty());
+        assertEquals(LogRing.RETIRED, ring.claim());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.job_platform.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.job_platform.Service.SecurityAuditService.SecurityEvent;
+import com.example.job_platform.Service.SecurityAuditService.SecurityEventRing;
+import com.example.job_platform.Service.SecurityAuditService.SecurityEventType;
+
+class SecurityEventRingTest {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Test
+    void keepsOnlyTheNewestLapAfterWrapping() {
+        SecurityEventRing ring = new SecurityEventRing(4);
+        for (int i = 0; i < 10; i++) {
+            ring.add(event(i % 2 == 0 ? SecurityEventType.LOGIN_SUCCESS : SecurityEventType.LOGIN_FAILURE,
+                    "user" + i + "@example.com"));
+        }
+
+        assertEquals(4, ring.size());
+        assertEquals(List.of(9L, 8L, 7L, 6L), idsOf(ring.newestFirst(10)));
+        assertEquals(List.of(8L, 6L), idsOf(ring.newestOfType(SecurityEventType.LOGIN_SUCCESS, 10)));
+        assertEquals(List.of(9L, 7L), idsOf(ring.newestOfType(SecurityEventType.LOGIN_FAILURE, 10)));
+        assertEquals(List.of(9L, 8L, 7L), idsOf(ring.newestOfTypes(
+                List.of(SecurityEventType.LOGIN_SUCCESS, SecurityEventType.LOGIN_FAILURE), 3)));
+    }
+
+    @Test
+    void userChainStopsAtOverwrittenEvents() {
+        SecurityEventRing ring = new SecurityEventRing(4);
+        ring.add(event(SecurityEventType.LOGIN_FAILURE, "old@example.com"));
+        ring.add(event(SecurityEventType.LOGIN_FAILURE, "busy@example.com"));
+        for (int i = 0; i < 3; i++) {
+            ring.add(event(SecurityEventType.LOGIN_FAILURE, "busy@example.com"));
+        }
+
+        assertTrue(ring.newestOfUser("old@example.com", 10).isEmpty());
+        assertEquals(List.of(4L, 3L, 2L, 1L), idsOf(ring.newestOfUser("busy@example.com", 10)));
+
+        ring.add(event(SecurityEventType.LOGIN_FAILURE, "new@example.com"));
+        assertEquals(List.of(4L, 3L, 2L), idsOf(ring.newestOfUser("busy@example.com", 10)));
+    }
+
+    @Test
+    void writerLappedBeforePublishingDropsItsEvent() {
+        SecurityEventRing ring = new SecurityEventRing(4);
+        SecurityEventRing.Slot stalled = ring.claim(event(SecurityEventType.LOGIN_FAILURE, "slow@example.com"));
+        for (int i = 0; i < 5; i++) {
+            ring.add(event(SecurityEventType.LOGIN_FAILURE, "fast@example.com"));
+        }
+
+        // Readers give up on the unpublished sequence once it is a lap behind instead of waiting
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertEquals(List.of(5L, 4L, 3L, 2L), idsOf(ring.newestFirst(10)));
+            assertTrue(ring.newestOfUser("slow@example.com", 10).isEmpty());
+        });
+
+        // Publishing late must not replace the newer event already in its slot
+        ring.publish(stalled);
+        assertEquals(List.of(5L, 4L, 3L, 2L), idsOf(ring.newestFirst(10)));
+        assertEquals(List.of(5L, 4L, 3L, 2L), idsOf(ring.newestOfType(SecurityEventType.LOGIN_FAILURE, 10)));
+        assertTrue(ring.newestOfUser("slow@example.com", 10).isEmpty());
+    }
+
+    @Test
+    void concurrentWritersWrapWithoutStallingReaders() throws Exception {
+        // A tiny ring and more writers than cores, so writers are often lapped between claim and publish
+        int capacity = 2;
+        int writers = 8;
+        int eventsPerWriter = 100_000;
+        SecurityEventRing ring = new SecurityEventRing(capacity);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try {
+            List<Future<?>> writerTasks = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String email = "writer" + w + "@example.com";
+                writerTasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerWriter; i++) {
+                        ring.add(event(SecurityEventType.values()[i % 3], email));
+                    }
+                    return null;
+                }));
+            }
+
+            List<Future<?>> readerTasks = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readerTasks.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        List<SecurityEvent> newest = ring.newestFirst(capacity);
+                        assertTrue(newest.size() <= capacity);
+                        assertNewestFirstPerWriter(newest);
+                        assertNewestFirstPerWriter(ring.newestOfType(SecurityEventType.LOGIN_FAILURE, capacity));
+                        assertNewestFirstPerWriter(ring.newestOfUser("writer0@example.com", capacity));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> task : writerTasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> task : readerTasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every slot ends up holding its last lap, so a full ring of events is visible
+        assertEquals(capacity, ring.size());
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertEquals(capacity, ring.newestFirst(capacity).size()));
+    }
+
+    private SecurityEvent event(SecurityEventType type, String email) {
+        return new SecurityEvent(ids.getAndIncrement(), type, email, "127.0.0.1", "test", "LOW");
+    }
+
+    private static List<Long> idsOf(List<SecurityEvent> events) {
+        return events.stream().map(SecurityEvent::getId).collect(Collectors.toList());
+    }
+
+    // Each event appears once, and each writer's own events come back newest first; ids are
+    // taken before the ring's sequence, so only one writer's ids are ordered like the ring
+    private static void assertNewestFirstPerWriter(List<SecurityEvent> events) {
+        Map<String, Long> previousByWriter = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (SecurityEvent event : events) {
+            assertTrue(seen.add(event.getId()));
+            Long previous = previousByWriter.put(event.getUserEmail(), event.getId());
+            assertTrue(previous == null || previous > event.getId());
+        }
+    }
+}